@@ -0,0 +1,148 @@
+package frc.robot.benchmarks;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.util.datalog.DataLogRecord;
+import edu.wpi.first.util.datalog.IntegerLogEntry;
+import edu.wpi.first.wpilibj.DataLogManager;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import edu.wpi.first.wpilibj.simulation.SimHooks;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.RobotContainer;
+import frc.robot.subsystems.ShooterSubsystem;
+import frc.robot.util.InputsLogReader;
+import frc.robot.util.InputsLogger;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Re-runs a recorded match through the robot code. Subsystems read their logged inputs instead of
+ * hardware, the dashboard settings and vision samples come from the log too, the logged driver
+ * station state drives the buttons and modes, and robot time follows the logged loop timestamps,
+ * so a match replays as fast as the host allows. Every loop reads exactly the inputs logged in
+ * that loop. The replay writes its own data log, which can be compared with the original.
+ *
+ * <p>Run with {@code ./gradlew replay -Preplay.log=<file.wpilog>}.
+ */
+public final class ReplayRunner {
+    private static final int STICK = 0;
+
+    private final InputsLogReader log;
+    private final DsChannel enabled;
+    private final DsChannel autonomous;
+    private final DsChannel buttons;
+    private final DsChannel axes;
+    private final DsChannel povs;
+
+    private ReplayRunner(InputsLogReader log) {
+        this.log = log;
+        enabled = new DsChannel(log.records("DS:enabled"));
+        autonomous = new DsChannel(log.records("DS:autonomous"));
+        buttons = new DsChannel(log.records("DS:joystick" + STICK + "/buttons"));
+        axes = new DsChannel(log.records("DS:joystick" + STICK + "/axes"));
+        povs = new DsChannel(log.records("DS:joystick" + STICK + "/povs"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        String file = System.getProperty(RobotContainer.REPLAY_LOG_PROPERTY);
+        if (file == null || file.isBlank()) {
+            System.err.println("Pass the log to replay with -D" + RobotContainer.REPLAY_LOG_PROPERTY + "=<file>");
+            System.exit(2);
+        }
+
+        HAL.initialize(500, 0);
+        SimHooks.pauseTiming();
+        DriverStationSim.setDsAttached(true);
+
+        InputsLogReader log = new InputsLogReader(Path.of(file));
+        ReplayRunner runner = new ReplayRunner(log);
+        RobotContainer container = new RobotContainer(log); // same reader, so its cursors follow the runner's loops
+        int loops = runner.run();
+
+        ShooterSubsystem shooter = container.getShooter();
+        System.out.printf("Replayed %d loops from %s, %d shots detected%n", loops, file, shooter.getShotCount());
+        System.out.println("Replay log written to " + DataLogManager.getLogDir());
+        DataLogManager.stop();
+        SimHooks.resumeTiming();
+        System.exit(0);
+    }
+
+    /**
+     * One scheduler pass per logged loop, with robot time, the DS state and every inputs entry as
+     * they were in that loop. Logs without loop markers fall back to the shooter's samples.
+     */
+    private int run() {
+        List<DataLogRecord> loops = log.records(InputsLogger.LOOP_ENTRY);
+        if (loops.isEmpty()) {
+            loops = log.records(InputsLogger.ENTRY_PREFIX + ShooterSubsystem.LOG_NAME);
+        }
+        IntegerLogEntry loopMarker = new IntegerLogEntry(DataLogManager.getLog(), InputsLogger.LOOP_ENTRY);
+        for (int i = 0; i < loops.size(); i++) {
+            long timestamp = loops.get(i).getTimestamp();
+            long ahead = timestamp - RobotController.getFPGATime();
+            if (ahead > 0) {
+                SimHooks.stepTiming(ahead / 1e6);
+            }
+            log.setLoop(timestamp, i + 1 < loops.size() ? loops.get(i + 1).getTimestamp() : Long.MAX_VALUE);
+
+            applyDriverStation(timestamp);
+            loopMarker.append(RobotController.getFPGATime());
+            CommandScheduler.getInstance().run();
+        }
+        return loops.size();
+    }
+
+    private void applyDriverStation(long timestamp) {
+        DataLogRecord record;
+        if ((record = enabled.latest(timestamp)) != null) {
+            DriverStationSim.setEnabled(record.getBoolean());
+        }
+        if ((record = autonomous.latest(timestamp)) != null) {
+            DriverStationSim.setAutonomous(record.getBoolean());
+        }
+        if ((record = buttons.latest(timestamp)) != null) {
+            boolean[] pressed = record.getBooleanArray();
+            int mask = 0;
+            for (int i = 0; i < pressed.length; i++) {
+                mask |= pressed[i] ? 1 << i : 0;
+            }
+            DriverStationSim.setJoystickButtonCount(STICK, pressed.length);
+            DriverStationSim.setJoystickButtons(STICK, mask);
+        }
+        if ((record = axes.latest(timestamp)) != null) {
+            float[] values = record.getFloatArray();
+            DriverStationSim.setJoystickAxisCount(STICK, values.length);
+            for (int i = 0; i < values.length; i++) {
+                DriverStationSim.setJoystickAxis(STICK, i, values[i]);
+            }
+        }
+        if ((record = povs.latest(timestamp)) != null) {
+            long[] values = record.getIntegerArray();
+            DriverStationSim.setJoystickPOVCount(STICK, values.length);
+            for (int i = 0; i < values.length; i++) {
+                DriverStationSim.setJoystickPOV(STICK, i, (int) values[i]);
+            }
+        }
+        DriverStationSim.notifyNewData();
+    }
+
+    /** A change-only DS entry, read forward in time. */
+    private static final class DsChannel {
+        private final List<DataLogRecord> records;
+        private int index = 0;
+
+        DsChannel(List<DataLogRecord> records) {
+            this.records = records;
+        }
+
+        /** The newest record at or before {@code timestamp} not returned yet, or null. */
+        DataLogRecord latest(long timestamp) {
+            DataLogRecord latest = null;
+            while (index < records.size() && records.get(index).getTimestamp() <= timestamp) {
+                latest = records.get(index++);
+            }
+            return latest;
+        }
+    }
+}
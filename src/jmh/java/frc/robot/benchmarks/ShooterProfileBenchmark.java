@@ -0,0 +1,52 @@
+package frc.robot.benchmarks;
+
+import frc.robot.constants.ShooterConstants;
+import frc.robot.subsystems.ShooterProfile;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Distance to RPM lookups for every profile, swept across each profile's safe range. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShooterProfileBenchmark {
+    private static final int DISTANCE_SAMPLES = 1024;
+
+    @Param({"BALANCED", "STEEP_CLOSE", "FLAT_LONG", "EXPERIMENTAL"})
+    public String profileName;
+
+    private ShooterProfile profile;
+    private final double[] distances = new double[DISTANCE_SAMPLES];
+    private int index = 0;
+
+    @Setup
+    public void setup() {
+        profile = ShooterConstants.createAllProfiles().get(profileName);
+        double min = profile.getMinSafeDistance();
+        double max = profile.getMaxSafeDistance();
+        for (int i = 0; i < DISTANCE_SAMPLES; i++) {
+            distances[i] = min + (max - min) * i / (DISTANCE_SAMPLES - 1);
+        }
+    }
+
+    @Benchmark
+    public double lookup() {
+        index = (index + 1) & (DISTANCE_SAMPLES - 1);
+        return profile.getRPMForDistance(distances[index]);
+    }
+}
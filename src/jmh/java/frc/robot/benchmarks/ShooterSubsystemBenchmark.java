@@ -0,0 +1,70 @@
+package frc.robot.benchmarks;
+
+import edu.wpi.first.hal.HAL;
+import frc.robot.constants.ShooterConstants;
+import frc.robot.subsystems.ShooterIOTalonFX;
+import frc.robot.subsystems.ShooterSubsystem;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-loop shooter work against the simulated TalonFX: the clamping path in
+ * {@link ShooterSubsystem#getRPMForDistance}, a full {@code periodic()} cycle and a profile switch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShooterSubsystemBenchmark {
+    private ShooterSubsystem shooter;
+    private boolean alternate = false;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HAL.initialize(500, 0);
+        shooter = new ShooterSubsystem(new ShooterIOTalonFX());
+        shooter.setActiveProfile(ShooterConstants.DEFAULT_PROFILE_NAME);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        shooter.stop();
+    }
+
+    @Benchmark
+    public double inRangeDistance() {
+        return shooter.getRPMForDistance(3.0);
+    }
+
+    @Benchmark
+    public double clampedDistance() {
+        alternate = !alternate;
+        return shooter.getRPMForDistance(alternate ? 0.5 : 9.0);
+    }
+
+    @Benchmark
+    public void periodicCycle() {
+        shooter.periodic();
+    }
+
+    @Benchmark
+    public void switchProfile() {
+        alternate = !alternate;
+        shooter.setActiveProfile(alternate ? "FLAT_LONG" : ShooterConstants.DEFAULT_PROFILE_NAME);
+    }
+}
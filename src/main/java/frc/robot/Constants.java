@@ -16,4 +16,25 @@ public final class Constants {
   public static class OperatorConstants {
     public static final int kDriverControllerPort = 0;
   }
+
+  public static class DeviceConstants {
+    public static final int CONFIG_THREADS = 2;
+    public static final int CONFIG_MAX_ATTEMPTS = 3;
+    public static final long CONFIG_RETRY_DELAY_MS = 50;
+    public static final String CONFIG_CACHE_FILE_NAME = "device_config_cache.properties";
+    public static final double CONFIG_READBACK_TOLERANCE = 1e-4;
+  }
+
+  public static class AlertConstants {
+    public static final String COUNT_TABLE_NAME = "AlertCounts";
+    public static final double CONSOLE_REPORT_INTERVAL_SECONDS = 5.0;
+  }
+
+  public static class ProfilingConstants {
+    public static final String TABLE_NAME = "Profiling";
+    public static final int PUBLISH_PERIOD_LOOPS = 50;
+    public static final long LOOP_BUDGET_MICROS = 20_000;
+    public static final long SUBSYSTEM_BUDGET_MICROS = 2_000;
+    public static final long COMMAND_BUDGET_MICROS = 1_000;
+  }
 }
@@ -4,9 +4,18 @@
 
 package frc.robot;
 
+import edu.wpi.first.util.datalog.IntegerLogEntry;
+import edu.wpi.first.wpilibj.DataLogManager;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.RobotController;
 import edu.wpi.first.wpilibj.TimedRobot;
+import edu.wpi.first.wpilibj.simulation.BatterySim;
+import edu.wpi.first.wpilibj.simulation.RoboRioSim;
 import edu.wpi.first.wpilibj2.command.Command;
 import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.Constants.ProfilingConstants;
+import frc.robot.util.InputsLogger;
+import frc.robot.util.LoopProfiler;
 
 /**
  * The methods in this class are called automatically corresponding to each mode, as described in
@@ -18,11 +27,22 @@ public class Robot extends TimedRobot {
 
   private final RobotContainer m_robotContainer;
 
+  // One record at the start of every loop, so a replay can group the inputs logged in it
+  private final IntegerLogEntry m_loopMarker;
+
+  private final LoopProfiler.Probe m_schedulerProbe =
+      LoopProfiler.probe("Scheduler", ProfilingConstants.LOOP_BUDGET_MICROS);
+
   /**
    * This function is run when the robot is first started up and should be used for any
    * initialization code.
    */
   public Robot() {
+    // Record every subsystem's inputs and the driver station state, so a match can be replayed
+    DataLogManager.start();
+    DriverStation.startDataLog(DataLogManager.getLog());
+    m_loopMarker = new IntegerLogEntry(DataLogManager.getLog(), InputsLogger.LOOP_ENTRY);
+
     // Instantiate our RobotContainer.  This will perform all our button bindings, and put our
     // autonomous chooser on the dashboard.
     m_robotContainer = new RobotContainer();
@@ -41,7 +61,11 @@ public class Robot extends TimedRobot {
     // commands, running already-scheduled commands, removing finished or interrupted commands,
     // and running subsystem periodic() methods.  This must be called from the robot's periodic
     // block in order for anything in the Command-based framework to work.
+    long start = RobotController.getFPGATime();
+    m_loopMarker.append(start);
     CommandScheduler.getInstance().run();
+    m_schedulerProbe.record(start);
+    LoopProfiler.publishPeriodically();
   }
 
   /** This function is called once each time the robot enters Disabled mode. */
@@ -97,5 +121,9 @@ public class Robot extends TimedRobot {
 
   /** This function is called periodically whilst in simulation. */
   @Override
-  public void simulationPeriodic() {}
+  public void simulationPeriodic() {
+    // Sag the battery under the simulated mechanisms' load; subsystem sims already ran this loop.
+    RoboRioSim.setVInVoltage(
+        BatterySim.calculateDefaultBatteryLoadedVoltage(m_robotContainer.getSimulatedCurrentDrawAmps()));
+  }
 }
@@ -1,59 +1,128 @@
 package frc.robot;
 
 import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
 import edu.wpi.first.wpilibj2.command.Commands;
 import edu.wpi.first.wpilibj2.command.button.CommandXboxController;
+import edu.wpi.first.wpilibj.RobotBase;
 import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
 
 import frc.robot.commands.shooter.SpinUpForDistance;
-import frc.robot.constants.ShooterConstants;
 import frc.robot.commands.intake.ExtendIntake;
 import frc.robot.commands.intake.RetractIntake;
 import frc.robot.commands.shooter.ShootWithVision;
+import frc.robot.commands.shooter.ShotCycle;
+import frc.robot.commands.shooter.WaitForShot;
+import frc.robot.constants.ShooterConstants;
 import frc.robot.subsystems.ShooterSubsystem;
 import frc.robot.subsystems.IntakeSubsystem;
+import frc.robot.subsystems.IntakeIO;
+import frc.robot.subsystems.IntakeIOReplay;
+import frc.robot.subsystems.IntakeIOSim;
+import frc.robot.subsystems.IntakeIOSparkMax;
+import frc.robot.subsystems.ShooterIO;
+import frc.robot.subsystems.ShooterIOReplay;
+import frc.robot.subsystems.ShooterIOSim;
+import frc.robot.subsystems.ShooterIOTalonFX;
+import frc.robot.subsystems.ShotFeedback;
+import frc.robot.util.InputsLogReader;
+import frc.robot.util.LoopProfiler;
+import frc.robot.vision.DistanceSource;
+import frc.robot.vision.LoggedDistanceSource;
+import frc.robot.vision.ReplayDistanceSource;
+import frc.robot.vision.SimulatedDistanceSource;
 
-import java.util.Set;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.function.DoubleSupplier;
 
 public class RobotContainer {
-    // Subsystems
-    private final ShooterSubsystem shooter = new ShooterSubsystem();
-    private final IntakeSubsystem intake = new IntakeSubsystem();
+    /** System property naming a data log to replay in simulation instead of running the physics sim. */
+    public static final String REPLAY_LOG_PROPERTY = "replay.log";
+
+    // Subsystems: real hardware, a logged match (-Dreplay.log=<file>), or the physics sim
+    private final ShooterSubsystem shooter;
+    private final IntakeSubsystem intake;
     
+    // Shots queue onto one running cycle, so the flywheel stays up between them
+    private final ShotCycle shotCycle;
+    private final Command shotCycleCommand;
+    private final ShotCycle burstCycle;
+    private final Command burstCycleCommand;
+
     // Controllers
     private final CommandXboxController operator = new CommandXboxController(0);
     
-    // Vision (replace with real)
-    private VisionSimulator vision = new VisionSimulator();
+    // Vision (replace with real); every read is logged so a replay sees the same samples
+    private final DistanceSource vision;
     
     public RobotContainer() {
+        this(openReplayLog());
+    }
+
+    /** The robot on its usual hardware layer, or replaying {@code replayLog} in simulation when it isn't null. */
+    public RobotContainer(InputsLogReader replayLog) {
+        this(RobotBase.isReal() ? new ShooterIOTalonFX()
+            : replayLog != null ? new ShooterIOReplay(replayLog)
+            : new ShooterIOSim(),
+            RobotBase.isReal() ? new IntakeIOSparkMax()
+            : replayLog != null ? new IntakeIOReplay(replayLog)
+            : new IntakeIOSim(),
+            RobotBase.isReal() ? null : replayLog);
+    }
+
+    /** The robot on the given hardware layer, e.g. a deterministic model under test. */
+    public RobotContainer(ShooterIO shooterIO, IntakeIO intakeIO) {
+        this(shooterIO, intakeIO, null);
+    }
+
+    private RobotContainer(ShooterIO shooterIO, IntakeIO intakeIO, InputsLogReader replayLog) {
+        shooter = new ShooterSubsystem(shooterIO, replayLog);
+        intake = new IntakeSubsystem(intakeIO);
+        vision = new LoggedDistanceSource(replayLog != null
+            ? new ReplayDistanceSource(replayLog)
+            : new SimulatedDistanceSource(3.0));
+        shotCycle = new ShotCycle(shooter, intake);
+        shotCycleCommand = whenReady("Shot Cycle", shotCycle);
+        burstCycle = new ShotCycle(shooter, intake, true);
+        burstCycleCommand = whenReady("Burst", burstCycle);
+
         configureBindings();
         setupDashboard();
     }
+
+    private static InputsLogReader openReplayLog() {
+        String file = System.getProperty(REPLAY_LOG_PROPERTY);
+        if (RobotBase.isReal() || file == null || file.isBlank()) {
+            return null;
+        }
+        try {
+            return new InputsLogReader(Path.of(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot replay " + file, e);
+        }
+    }
     
     private void configureBindings() {
 
-        operator.povUp().whileTrue(Commands.parallel(
+        operator.povUp().whileTrue(whenReady("Extend And Spin", Commands.parallel(
             new ExtendIntake(intake),
             Commands.run(() -> shooter.setVelocityRPM(4000), shooter)
-            ));
-        operator.povDown().whileTrue(Commands.parallel(
-            new RetractIntake(intake),
-            Commands.run(() -> shooter.setVelocityRPM(0), shooter)
-            ));
-
-
-        // B = Shoot at 3.0m
-        operator.b().onTrue(
-            Commands.sequence(
-                new SpinUpForDistance(shooter, intake, 3.0),
-                Commands.waitSeconds(0.5),
-                Commands.runOnce(() -> {
-                    //shooter.stop();
-                    intake.stop();
-                }, shooter, intake)
-            )
-        );
+            )));
+        // Retracting loads a ball and marks it staged; the wheel stays stopped until a shot asks for it
+        operator.povDown().whileTrue(whenReady("Retract And Stage", Commands.parallel(
+            new RetractIntake(intake).finallyDo(interrupted -> {
+                if (!interrupted) {
+                    shooter.setGamePieceStaged(true);
+                }
+            }),
+            Commands.runOnce(shooter::stop, shooter)
+            )));
+
+
+        // B = Queue a shot at 3.0m
+        operator.b().onTrue(queueShot(() -> 3.0));
 
         /*
         double joyPos = operator.getRightY();
@@ -64,48 +133,40 @@ public class RobotContainer {
         */
 
         
-        // Y = Shoot at 4.0m
-        operator.y().onTrue(
-            Commands.sequence(
-                new SpinUpForDistance(shooter, intake, 4.0),
-                Commands.waitSeconds(0.5),
-                Commands.runOnce(() -> {
-                    //shooter.stop();
-                    intake.stop();
-                }, shooter, intake)
-            )
-        );
+        // Y = Queue a shot at 4.0m
+        operator.y().onTrue(queueShot(() -> 4.0));
         
         
         // Left Trigger
-        operator.leftTrigger().onTrue(
+        operator.leftTrigger().onTrue(whenReady("Spin 4000",
             Commands.parallel(
             //Commands.run(() -> intake.setSpeed(5330), intake),
             Commands.run(() -> shooter.setVelocityRPM(4000), shooter)
             )
-        );
+        ));
 
-        operator.rightTrigger().onTrue(
-            Commands.run(() -> shooter.stop())
-        );
+        // Right Trigger = Track the vision distance while held; releasing stops the wheel
+        operator.rightTrigger().whileTrue(whenReady("Vision",
+            new ShootWithVision(shooter, vision)
+        ));
         
         // Left Bumper = Eject
-        operator.leftBumper().whileTrue(
+        operator.leftBumper().whileTrue(whenReady("Eject",
             Commands.run(() -> intake.extend(), intake)
-        );
+        ));
         
         // Right Bumper = Manual shooter test (3000 RPM with intake)
-        operator.rightBumper().whileTrue(
+        operator.rightBumper().whileTrue(whenReady("Retract",
             Commands.parallel(
                 //Commands.run(() -> shooter.setVelocityRPM(3000), shooter),
                 Commands.run(() -> intake.retract(), intake)
             )
-        );
+        ));
                 
         // D-Pad Up = Increase test distance
         operator.povUp().onTrue(
             Commands.runOnce(() -> {
-                double current = SmartDashboard.getNumber("Test Distance (m)", 2.0);
+                double current = shooter.getTestDistanceMeters();
                 SmartDashboard.putNumber("Test Distance (m)", current + 0.5);
                 System.out.printf("Test distance: %.1fm%n", current + 0.5);
             })
@@ -114,30 +175,25 @@ public class RobotContainer {
         // D-Pad Down = Decrease test distance
         operator.povDown().onTrue(
             Commands.runOnce(() -> {
-                double current = SmartDashboard.getNumber("Test Distance (m)", 2.0);
+                double current = shooter.getTestDistanceMeters();
                 SmartDashboard.putNumber("Test Distance (m)", Math.max(1.0, current - 0.5));
                 System.out.printf("Test distance: %.1fm%n", Math.max(1.0, current - 0.5));
             })
         );
         
-        // Start = Shoot at test distance
-        operator.start().onTrue(
-            Commands.sequence(
-                Commands.runOnce(() -> {
-                    double dist = SmartDashboard.getNumber("Test Distance (m)", 2.0);
-                    System.out.printf("=== SHOOTING AT %.1fm ===%n", dist);
-                }),
-                Commands.defer(() -> {
-                    double dist = SmartDashboard.getNumber("Test Distance (m)", 2.0);
-                    return new SpinUpForDistance(shooter, intake, dist);
-                }, Set.of(shooter, intake)),  // ← Both subsystems
-                Commands.waitSeconds(0.5),
-                Commands.runOnce(() -> {
-                    shooter.stop();
-                    intake.stop();
-                }, shooter, intake)
-            )
-        );
+        // Start = Queue a shot at the test distance
+        operator.start().onTrue(queueShot(shooter::getTestDistanceMeters));
+        
+        // A = Burst of several balls at the test distance, fed without waiting for full recovery
+        operator.a().onTrue(Commands.runOnce(() -> {
+            double dist = shooter.getTestDistanceMeters();
+            for (int i = 0; i < ShooterConstants.BURST_SIZE; i++) {
+                burstCycle.queueShot(dist);
+            }
+            if (!burstCycleCommand.isScheduled()) {
+                CommandScheduler.getInstance().schedule(burstCycleCommand);
+            }
+        }));
         
         // X = STOP EVERYTHING
         operator.x().onTrue(
@@ -147,30 +203,78 @@ public class RobotContainer {
                 System.out.println("!!! EMERGENCY STOP !!!");
             }, shooter, intake)
         );
+
+        // Back = Re-home the intake against its retracted hard stop (also runs on first enable)
+        operator.back().onTrue(whenReady("Home Intake",
+            Commands.runOnce(intake::home, intake)
+        ));
+
+        // Learning mode verdicts on the last shot: D-Pad Left = short, D-Pad Right = long, Left Stick = good.
+        // No requirements, so a verdict never interrupts a running shot cycle.
+        operator.povLeft().onTrue(shotFeedback(ShotFeedback.LOW));
+        operator.povRight().onTrue(shotFeedback(ShotFeedback.HIGH));
+        operator.leftStick().onTrue(shotFeedback(ShotFeedback.GOOD));
+    }
+
+    private Command shotFeedback(ShotFeedback feedback) {
+        return Commands.runOnce(() -> shooter.recordShotFeedback(feedback)).ignoringDisable(true);
     }
     
+    /** Adds a shot to the shot cycle, starting the cycle if it isn't already running. */
+    private Command queueShot(DoubleSupplier distanceMeters) {
+        return Commands.runOnce(() -> {
+            shotCycle.queueShot(distanceMeters.getAsDouble());
+            if (!shotCycleCommand.isScheduled()) {
+                CommandScheduler.getInstance().schedule(shotCycleCommand);
+            }
+        });
+    }
+
+    /**
+     * Holds a command until every subsystem has finished its startup configuration, and times its
+     * loop work under {@code Profiling/Commands/<name>}.
+     */
+    private Command whenReady(String name, Command command) {
+        return LoopProfiler.timed(name, Commands.waitUntil(this::subsystemsReady).andThen(command));
+    }
+
+    private boolean subsystemsReady() {
+        return shooter.isReady() && intake.isReady();
+    }
+
     private void setupDashboard() {
         SmartDashboard.putNumber("Test Distance (m)", 2.5);
         SmartDashboard.putString("Shooter/Controls", 
-            "A/B/Y=Shoot | RT=Vision | LT=Intake | LB=Eject | X=STOP");
+            "A/B/Y=Shoot | RT=Vision | LT=Intake | LB=Eject | X=STOP | D-Pad L/R, LS=Shot Low/High/Good");
+        SmartDashboard.putData("Shooter/Feedback/Low", shotFeedback(ShotFeedback.LOW));
+        SmartDashboard.putData("Shooter/Feedback/High", shotFeedback(ShotFeedback.HIGH));
+        SmartDashboard.putData("Shooter/Feedback/Good", shotFeedback(ShotFeedback.GOOD));
     }
     
+    public ShooterSubsystem getShooter() {
+        return shooter;
+    }
+
+    public IntakeSubsystem getIntake() {
+        return intake;
+    }
+
+    /** Total current the simulated mechanisms draw this loop, for the battery model. */
+    public double getSimulatedCurrentDrawAmps() {
+        return shooter.getSimulatedCurrentDrawAmps() + intake.getSimulatedCurrentDrawAmps();
+    }
+
     public Command getAutonomousCommand() {
-        return Commands.sequence(
+        return LoopProfiler.timed("Autonomous", Commands.sequence(
             Commands.print("[Auto] Starting shot"),
+            Commands.waitUntil(this::subsystemsReady),
             new SpinUpForDistance(shooter, intake, 2.5),  // Already runs both
-            Commands.waitSeconds(1.0),
+            new WaitForShot(shooter).withTimeout(1.0),
             Commands.runOnce(() -> {
                 shooter.stop();
                 intake.stop();
             }, shooter, intake),
             Commands.print("[Auto] Complete")
-        );
-    }
-
-    private static class VisionSimulator {
-        public double getDistance() {
-            return 3.0;
-        }
+        ));
     }
 }
\ No newline at end of file
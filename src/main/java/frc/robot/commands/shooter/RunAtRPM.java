@@ -6,17 +6,19 @@ import frc.robot.subsystems.ShooterSubsystem;
 public class RunAtRPM extends Command {
     private final ShooterSubsystem shooter;
     private final double targetRPM;
+    private final String startMessage;
 
     public RunAtRPM(ShooterSubsystem shooter, double targetRPM) {
         this.shooter = shooter;
         this.targetRPM = targetRPM;
+        this.startMessage = "[RunAtRPM] Set to " + Math.round(targetRPM) + " RPM";
         addRequirements(shooter);
     }
     
     @Override
     public void initialize() {
         shooter.setVelocityRPM(targetRPM);
-        System.out.printf("[RunAtRPM] Set to %.0f RPM%n", targetRPM);
+        System.out.println(startMessage);
     }
     
     @Override
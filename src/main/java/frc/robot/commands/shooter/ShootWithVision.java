@@ -1,29 +1,39 @@
 package frc.robot.commands.shooter;
 
+import edu.wpi.first.wpilibj.Timer;
 import edu.wpi.first.wpilibj2.command.Command;
+import frc.robot.constants.VisionConstants;
 import frc.robot.subsystems.ShooterSubsystem;
-
-import java.util.function.DoubleSupplier;
+import frc.robot.vision.DistanceBuffer;
+import frc.robot.vision.DistanceSource;
 
 public class ShootWithVision extends Command {
     private final ShooterSubsystem shooter;
-    private final DoubleSupplier distanceSupplier;
+    private final DistanceSource distanceSource;
+    private final DistanceBuffer distanceBuffer = new DistanceBuffer();
 
-    public ShootWithVision(ShooterSubsystem shooter, DoubleSupplier distanceSupplier) {
+    public ShootWithVision(ShooterSubsystem shooter, DistanceSource distanceSource) {
         this.shooter = shooter;
-        this.distanceSupplier = distanceSupplier;
+        this.distanceSource = distanceSource;
         addRequirements(shooter);
     }
     
     @Override
     public void initialize() {
+        distanceBuffer.clear();
         System.out.println("[ShootWithVision] Starting - tracking target");
     }
     
     @Override
     public void execute() {
-        double distance = distanceSupplier.getAsDouble();
-        shooter.setVelocityForDistance(distance);
+        distanceBuffer.update(distanceSource);
+        double now = Timer.getFPGATimestamp();
+        if (!distanceBuffer.hasFreshMeasurement(now)) {
+            return; // hold the last setpoint rather than aim at a stale distance
+        }
+        // Aim for where the target will be when the ball leaves, not where the camera saw it.
+        double distance = distanceBuffer.predict(now + VisionConstants.SHOT_EXIT_LATENCY_SECONDS);
+        shooter.trackDistance(distance);
     }
     
     @Override
@@ -37,4 +47,4 @@ public class ShootWithVision extends Command {
         shooter.stop();
         System.out.println("[ShootWithVision] Stopped");
     }
-}
\ No newline at end of file
+}
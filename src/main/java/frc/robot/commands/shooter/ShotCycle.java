@@ -0,0 +1,227 @@
+package frc.robot.commands.shooter;
+
+import edu.wpi.first.wpilibj.Alert.AlertType;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
+import edu.wpi.first.wpilibj2.command.Command;
+import frc.robot.constants.ShooterConstants;
+import frc.robot.subsystems.IntakeSubsystem;
+import frc.robot.subsystems.ShooterSubsystem;
+import frc.robot.util.PersistentAlert;
+
+import java.util.ArrayDeque;
+
+/**
+ * Fires queued shots back to back. Each shot goes SPINUP (wheel to speed) → READY (wheel ready,
+ * waiting for a staged ball) → FEED (intake extends until the shot detector sees the ball leave)
+ * → RECOVER (intake retracts to stage the next ball while the wheel recovers). Every transition
+ * is driven by a readiness or shot event, never a fixed delay, and the next shot's setpoint goes
+ * out as soon as recovery starts, so wheel recovery and restaging overlap.
+ *
+ * <p>The flywheel stays commanded for the whole queue; when the queue runs dry the cycle ends and
+ * the shooter is released to warm idle. An interrupted cycle stops it.
+ *
+ * <p>A feed that produces no shot within {@link ShooterConstants#SHOT_WAIT_TIMEOUT_SECONDS} is a
+ * missed feed: the same shot is restaged, re-spun and fed again, up to
+ * {@link ShooterConstants#SHOT_FEED_RETRIES} times. Only then is it given up and counted apart
+ * from the missed feeds, and the cycle moves on.
+ *
+ * <p>In burst mode, follow-up balls are fed as soon as the wheel is back within the burst
+ * tolerance instead of fully recovered, and each of their feeds overdrives the wheel by the
+ * {@link frc.robot.subsystems.BurstEnergyModel} boost so the ball still sees the tuned speed. The
+ * first ball waits for full readiness and is fed unboosted.
+ */
+public class ShotCycle extends Command {
+    public enum Stage { SPINUP, READY, FEED, RECOVER }
+
+    private static final PersistentAlert missedFeedAlert =
+        new PersistentAlert("Shooter", "Feed produced no shot - check the ball path", AlertType.kWarning);
+    private static final PersistentAlert givenUpShotAlert =
+        new PersistentAlert("Shooter", "Shot given up after repeated missed feeds", AlertType.kError);
+
+    private final ShooterSubsystem shooter;
+    private final IntakeSubsystem intake;
+    private final boolean burst;
+    private final ArrayDeque<Double> queue = new ArrayDeque<>();
+
+    private Stage stage = Stage.SPINUP;
+    private double distanceMeters;
+    private boolean hasShot = false;
+
+    private int shotCountAtFeed;
+    private int feedAttempts;
+    private double feedStartTime;
+    private double cycleStartTime;
+    private double lastShotTime = Double.NaN;
+    private int shotsFired;
+    private int missedFeeds;
+    private int givenUpShots;
+    private double ballsPerSecond = 0.0;
+
+    public ShotCycle(ShooterSubsystem shooter, IntakeSubsystem intake) {
+        this(shooter, intake, false);
+    }
+
+    public ShotCycle(ShooterSubsystem shooter, IntakeSubsystem intake, boolean burst) {
+        this.shooter = shooter;
+        this.intake = intake;
+        this.burst = burst;
+        addRequirements(shooter, intake);
+    }
+
+    /** Adds a shot at {@code distanceMeters}; a running cycle takes it after the shots ahead of it. */
+    public void queueShot(double distanceMeters) {
+        queue.add(distanceMeters);
+    }
+
+    public int getQueuedShots() {
+        return queue.size() + (hasShot ? 1 : 0);
+    }
+
+    public Stage getStage() {
+        return stage;
+    }
+
+    /** Shots fired per second from the start of this cycle to its last detected shot. */
+    public double getBallsPerSecond() {
+        return ballsPerSecond;
+    }
+
+    public int getShotsFired() {
+        return shotsFired;
+    }
+
+    /** Feeds that produced no shot, retried ones included. */
+    public int getMissedFeeds() {
+        return missedFeeds;
+    }
+
+    /** Shots dropped after every retry of their feed missed. */
+    public int getGivenUpShots() {
+        return givenUpShots;
+    }
+
+    @Override
+    public void initialize() {
+        cycleStartTime = Timer.getFPGATimestamp();
+        lastShotTime = Double.NaN;
+        shotsFired = 0;
+        missedFeeds = 0;
+        givenUpShots = 0;
+        ballsPerSecond = 0.0;
+        hasShot = false;
+        startRecovery();
+    }
+
+    @Override
+    public void execute() {
+        double now = Timer.getFPGATimestamp();
+        if (!hasShot && stage == Stage.RECOVER) {
+            takeNextShot(); // queued while the last one was still restaging
+        }
+        if (hasShot) {
+            shooter.trackDistance(distanceMeters);
+        }
+
+        // Stages fall through, so a wheel that is already at speed costs no extra loop
+        if (stage == Stage.RECOVER && hasShot && intake.isRetracted()) {
+            shooter.setGamePieceStaged(true);
+            stage = Stage.SPINUP;
+        }
+        if (stage == Stage.SPINUP && wheelReady()) {
+            stage = Stage.READY;
+        }
+        if (stage == Stage.READY) {
+            if (!wheelInWindow()) {
+                stage = Stage.SPINUP;
+            } else if (intake.isRetracted()) {
+                shotCountAtFeed = shooter.getShotCount();
+                feedAttempts++;
+                feedStartTime = now;
+                if (burst && shotsFired > 0) {
+                    shooter.boostForContact();
+                }
+                intake.extend();
+                stage = Stage.FEED;
+            }
+        }
+        if (stage == Stage.FEED) {
+            if (shooter.getShotCount() > shotCountAtFeed) {
+                shotsFired++;
+                lastShotTime = now;
+                ballsPerSecond = shotsFired / (lastShotTime - cycleStartTime);
+                missedFeedAlert.clear();
+                givenUpShotAlert.clear();
+                startRecovery();
+            } else if (now - feedStartTime > ShooterConstants.SHOT_WAIT_TIMEOUT_SECONDS) {
+                missedFeeds++;
+                missedFeedAlert.raise();
+                if (feedAttempts <= ShooterConstants.SHOT_FEED_RETRIES) {
+                    restage(); // same shot again once the ball is back and the wheel is up
+                } else {
+                    givenUpShots++;
+                    givenUpShotAlert.raise();
+                    startRecovery();
+                }
+            }
+        }
+
+        SmartDashboard.putString("ShotCycle/Stage", stage.name());
+        SmartDashboard.putNumber("ShotCycle/Queued", getQueuedShots());
+    }
+
+    @Override
+    public boolean isFinished() {
+        return stage == Stage.RECOVER && !hasShot && intake.isRetracted();
+    }
+
+    @Override
+    public void end(boolean interrupted) {
+        hasShot = false;
+        if (interrupted) {
+            queue.clear();
+            intake.stop();
+            shooter.stop();
+        } else {
+            shooter.releaseToIdle();
+        }
+
+        SmartDashboard.putString("ShotCycle/Stage", "DONE");
+        SmartDashboard.putNumber("ShotCycle/Queued", queue.size());
+        SmartDashboard.putNumber("ShotCycle/Shots Fired", shotsFired);
+        SmartDashboard.putNumber("ShotCycle/Missed Feeds", missedFeeds);
+        SmartDashboard.putNumber("ShotCycle/Given Up Shots", givenUpShots);
+        SmartDashboard.putNumber("ShotCycle/Balls Per Second", ballsPerSecond);
+    }
+
+    /** The first ball always waits for full readiness; later balls of a burst only for the window. */
+    private boolean wheelReady() {
+        return burst && shotsFired > 0 ? shooter.isReadyForBurstShot() : shooter.isReadyToShoot();
+    }
+
+    private boolean wheelInWindow() {
+        return burst && shotsFired > 0 ? shooter.isReadyForBurstShot() : shooter.atTargetVelocity();
+    }
+
+    /** Pulls the intake back to stage a ball and already aims the wheel at the next queued shot. */
+    private void startRecovery() {
+        restage();
+        takeNextShot();
+    }
+
+    private void restage() {
+        shooter.endBoost();
+        stage = Stage.RECOVER;
+        intake.retract();
+    }
+
+    private void takeNextShot() {
+        Double next = queue.poll();
+        hasShot = next != null;
+        if (hasShot) {
+            feedAttempts = 0;
+            distanceMeters = next;
+            shooter.trackDistance(distanceMeters);
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package frc.robot.commands.shooter;
 
+import edu.wpi.first.wpilibj.Alert.AlertType;
 import edu.wpi.first.wpilibj2.command.Command;
 import frc.robot.subsystems.ShooterSubsystem;
 import frc.robot.subsystems.IntakeSubsystem;
+import frc.robot.util.PersistentAlert;
 
 public class SpinUpForDistance extends Command {
     private final ShooterSubsystem shooter;
     private final IntakeSubsystem intake;
     private final double distanceMeters;
 
+    private static final PersistentAlert outOfRangeAlert =
+        new PersistentAlert("Shooter", "Spin-up distance outside safe range", AlertType.kWarning);
+
     public SpinUpForDistance(
         ShooterSubsystem shooter,
         IntakeSubsystem intake,
@@ -22,15 +27,11 @@ public class SpinUpForDistance extends Command {
 
     @Override
     public void initialize() {
-        if (!shooter.isDistanceInRange(distanceMeters)) {
-            System.err.printf("[SpinUp] WARNING: %.2fm is outside safe range!%n", distanceMeters);
-        }
+        outOfRangeAlert.set(!shooter.isDistanceInRange(distanceMeters));
 
         shooter.setVelocityForDistance(distanceMeters);
 
         intake.stop();
-
-        System.out.printf("[SpinUp] Spinning up for %.2fm — intake BEKLIYOR...%n", distanceMeters);
     }
 
     @Override
@@ -48,8 +49,6 @@ public class SpinUpForDistance extends Command {
             System.out.println("[SpinUp] Interrupted — stopping all");
             shooter.stop();
             intake.stop();
-        } else {
-            System.out.printf("[SpinUp] Ready! Shooter at target for %.2fm%n", distanceMeters);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package frc.robot.commands.shooter;
+
+import edu.wpi.first.wpilibj2.command.Command;
+import frc.robot.subsystems.ShooterSubsystem;
+
+/** Finishes when the next ball leaves the shooter. Requires nothing, so it can run beside a feed. */
+public class WaitForShot extends Command {
+    private final ShooterSubsystem shooter;
+    private int startCount;
+
+    public WaitForShot(ShooterSubsystem shooter) {
+        this.shooter = shooter;
+    }
+
+    @Override
+    public void initialize() {
+        startCount = shooter.getShotCount();
+    }
+
+    @Override
+    public boolean isFinished() {
+        return shooter.getShotCount() > startCount;
+    }
+}
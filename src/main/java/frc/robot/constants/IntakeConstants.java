@@ -1,5 +1,7 @@
 package frc.robot.constants;
 
+import edu.wpi.first.math.system.plant.DCMotor;
+
 public class IntakeConstants {
     
     //IDs
@@ -7,16 +9,49 @@ public class IntakeConstants {
 
     //Physical Constants
     public static final double GEAR_RATIO = 3.53; 
+
+    //Simulation
+    public static final DCMotor SIM_MOTOR = DCMotor.getNEO(1);
+    public static final double SIM_MOI_KG_M2 = 0.05;
+    public static final double SIM_FRICTION_VOLTS = 0.25;
+    // Where the simulated arm really is at boot, so homing has something to correct
+    public static final double SIM_BOOT_OFFSET_DEGREES = 8.0;
     
     //Setpoints
     public static final double INTAKE_EXTENDED_DEGREES = 60.0;   
     public static final double INTAKE_RETRACTED_DEGREES = 0.0;  
     
-    public static final double kP = 0.005;
+    public static final double kP = 0.02;
     public static final double kI = 0.0;
     public static final double kD = 0.01;
+
+    //Feedforward (volts, volts per rad/s), sent as arbitrary feedforward with each setpoint
+    public static final double kS = 0.25;
+    // UNTUNED PLACEHOLDER: the pivot has not been characterized, so the cosine gravity term is
+    // inert. Set it to the volts that hold the arm still at HORIZONTAL_DEGREES (e.g. from a SysId
+    // arm run). The sim has no gravity, so it can't be tuned there.
     public static final double kG = 0.0;
+    public static final double kV = 0.071;
+    // Pivot angle at which the arm is horizontal and gravity torque peaks
+    public static final double HORIZONTAL_DEGREES = 0.0;
+
+    //Motion profile
+    public static final double MAX_VELOCITY_DEG_PER_SEC = 360.0;
+    public static final double MAX_ACCELERATION_DEG_PER_SEC2 = 1440.0;
+    public static final double PROFILE_SAMPLE_SECONDS = 0.005;
 
     public static final double POSITION_TOLERANCE = 3.0;
 
+    //Homing: approach the retracted hard stop at a slow, regulated speed until the motor stalls,
+    //then zero there. The feedforward for the approach speed plus a velocity correction (volts per
+    //deg/s), capped so the push against the stop stays gentle but still draws stall current.
+    public static final double HOMING_VELOCITY_DEG_PER_SEC = -40.0;
+    public static final double HOMING_kP = 0.04;
+    public static final double HOMING_MAX_VOLTS = 1.2;
+    public static final double HOMING_STALL_CURRENT_AMPS = 6.0;
+    public static final double HOMING_STALL_VELOCITY_DEG_PER_SEC = 5.0;
+    public static final double HOMING_DEBOUNCE_SECONDS = 0.1;
+    // Full travel plus margin at the approach speed
+    public static final double HOMING_TIMEOUT_SECONDS = 3.0;
+
 }
\ No newline at end of file
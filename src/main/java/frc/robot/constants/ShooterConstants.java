@@ -1,8 +1,10 @@
 package frc.robot.constants;
 
-import edu.wpi.first.math.interpolation.InterpolatingDoubleTreeMap;
+import edu.wpi.first.math.system.plant.DCMotor;
 import edu.wpi.first.math.util.Units;
+import frc.robot.subsystems.ShooterControlMode;
 import frc.robot.subsystems.ShooterProfile;
+import frc.robot.util.InterpolatingTable;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -14,6 +16,13 @@ public final class ShooterConstants {
 
     public static final double GEAR_RATIO = 1.0;
     public static final double WHEEL_DIAMETER_METERS = Units.inchesToMeters(4.0);
+    public static final double FLYWHEEL_MOI_KG_M2 = 0.0025;
+
+    // Simulation: one Kraken X60 on the flywheel, friction matching kS
+    public static final DCMotor SIM_MOTOR = DCMotor.getKrakenX60(1);
+    public static final double  SIM_FLYWHEEL_MOI_KG_M2 = FLYWHEEL_MOI_KG_M2;
+    public static final double  SIM_FRICTION_VOLTS = 0.10;
+    public static final double  SIM_BALL_SPEED_LOSS = 0.12;
 
     public static final double kP_TALON = 0.05;
     public static final double kI_TALON = 0.0;
@@ -21,20 +30,82 @@ public final class ShooterConstants {
     public static final double kV_TALON = 0.12;
     public static final double kS_TALON = 0.10;
 
-    public static final double SPINUP_WAIT_SECONDS = 0.75;
+    // Readiness: in tolerance for a few samples and projected to stay there
+    public static final int    READY_WINDOW_SAMPLES = 5;
+    public static final int    READY_CONSECUTIVE_SAMPLES = 2;
+    public static final double READY_HORIZON_SECONDS = 0.1;
+    public static final double READY_MAX_ACCEL_RPM_PER_SEC = 2000.0;
+
+    // Tracking: only resend a setpoint when the aim moves this much
+    public static final double TRACKING_THRESHOLD_RPM = 30.0;
+
+    // Shot detection: velocity dip plus current spike over the running baseline
+    public static final double SHOT_DROP_RPM = 150.0;
+    public static final double SHOT_CURRENT_RISE_AMPS = 10.0;
+    public static final double SHOT_BASELINE_ALPHA = 0.1;
+    public static final double SHOT_WAIT_TIMEOUT_SECONDS = 0.5;
+    // A shot cycle restages and re-feeds a ball this many times after a feed that produced no shot
+    public static final int    SHOT_FEED_RETRIES = 2;
+
+    // Burst: feed again before full recovery, boosting the wheel by part of a ball's energy first
+    public static final int    BURST_SIZE = 3;
+    public static final double BURST_INITIAL_ENERGY_PER_BALL_JOULES = 40.0;
+    public static final double BURST_ENERGY_ALPHA = 0.3;
+    public static final double BURST_BOOST_ENERGY_FRACTION = 0.5;
+    public static final double BURST_MAX_BOOST_RPM = 600.0;
+    public static final double BURST_READY_TOLERANCE_RPM = 250.0;
+
+    // Warm idle: after a shot cycle, hold the profile's default RPM unless power or heat says otherwise
+    public static final boolean IDLE_IN_AUTO = true;
+    public static final boolean IDLE_IN_TELEOP = false;
+    public static final double  IDLE_BATTERY_CUTOFF_VOLTS = 11.0;
+    public static final double  IDLE_BATTERY_RESUME_VOLTS = 11.8;
+    public static final double  IDLE_BATTERY_DEBOUNCE_SECONDS = 0.5;
+    public static final double  IDLE_MAX_TEMP_CELSIUS = 70.0;
+    public static final double  IDLE_TEMP_RESUME_CELSIUS = 60.0;
+
+    public static final double SIGNAL_UPDATE_HZ = 50.0;
+    public static final double TEMPERATURE_UPDATE_HZ = 4.0;
 
     public static final double kFF = 0.0002;
     public static final double CIM_FREE_SPEED_RPM = 5330.0;
 
     public static final double VELOCITY_TOLERANCE_RPM = 100.0;
+
+    // Slot1: torque-current gains (amps per rotor RPS) for VELOCITY_TORQUE_FOC
+    public static final double kP_TORQUE = 5.0;
+    public static final double kI_TORQUE = 0.0;
+    public static final double kD_TORQUE = 0.0;
+    public static final double kS_TORQUE = 2.5;
+
+    // Slot2: bang-bang, a very stiff VelocityDutyCycle loop (duty cycle per rotor RPS)
+    public static final double kP_BANG_BANG = 1.0;
+
+    public static final double DEFAULT_SPINUP_ACCEL_RPM_PER_SEC = 12000.0;
+    public static final double DEFAULT_SPINUP_JERK_RPM_PER_SEC2 = 120000.0;
     
     public static final double MAX_OUTPUT = 1.0;
 
     public static final double LAUNCH_HEIGHT_METERS = 0.58;
     public static final double TARGET_HEIGHT_METERS = 2.05;
 
+    public static final double GRAVITY_MPS2 = 9.81;
+    public static final double DEFAULT_SLIP_FACTOR = 0.5;
+    public static final double DENSE_TABLE_STEP_METERS = 0.05;
+    public static final double MAX_SOLVED_WHEEL_RPM = 8000.0;
+
     public static final String DEFAULT_PROFILE_NAME = "BALANCED";
 
+    // The profiles below are the defaults; the deploy file only carries overrides, by profile name
+    public static final String PROFILE_FILE_NAME = "shooter_profiles.json";
+    public static final long PROFILE_RELOAD_DEBOUNCE_MS = 100;
+
+    // Learning mode: each HIGH/LOW verdict steps an RPM offset on the nearest tuned point of the loaded
+    // profile, within a bound; only the offsets are saved, so edits to the profiles still apply
+    public static final String LEARNED_OFFSETS_FILE_NAME = "learned_shooter_offsets.json";
+    public static final double LEARN_STEP_RPM = 25.0;
+    public static final double LEARN_MAX_OFFSET_RPM = 250.0;
+
     public static Map<String, ShooterProfile> createAllProfiles() {
         Map<String, ShooterProfile> profiles = new HashMap<>();
         profiles.put("BALANCED",     createBalancedProfile());
@@ -45,55 +116,39 @@ public final class ShooterConstants {
     }
 
     private static ShooterProfile createBalancedProfile() {
-        InterpolatingDoubleTreeMap map = new InterpolatingDoubleTreeMap();
-        map.put(1.5, 2600.0);
-        map.put(2.0, 3000.0);
-        map.put(2.5, 3450.0);
-        map.put(3.0, 3950.0);
-        map.put(3.5, 4500.0);
-        map.put(4.0, 5100.0);
-        map.put(4.5, 5750.0);
-        map.put(5.0, 6450.0);
+        InterpolatingTable map = new InterpolatingTable(
+            new double[] {   1.5,    2.0,    2.5,    3.0,    3.5,    4.0,    4.5,    5.0},
+            new double[] {2600.0, 3000.0, 3450.0, 3950.0, 4500.0, 5100.0, 5750.0, 6450.0});
         return new ShooterProfile("BALANCED", "45° All-Purpose (1.5-5.0m)",
-            45.0, LAUNCH_HEIGHT_METERS, TARGET_HEIGHT_METERS, map, 1.5, 5.0, 3800.0);
+            45.0, LAUNCH_HEIGHT_METERS, TARGET_HEIGHT_METERS, map, 1.5, 5.0, 3800.0,
+            12000.0, 120000.0, ShooterControlMode.VELOCITY_VOLTAGE);
     }
 
     private static ShooterProfile createSteepCloseProfile() {
-        InterpolatingDoubleTreeMap map = new InterpolatingDoubleTreeMap();
-        map.put(1.0, 2200.0);
-        map.put(1.5, 2500.0);
-        map.put(2.0, 2900.0);
-        map.put(2.5, 3400.0);
-        map.put(3.0, 4000.0);
-        map.put(3.5, 4700.0);
+        InterpolatingTable map = new InterpolatingTable(
+            new double[] {   1.0,    1.5,    2.0,    2.5,    3.0,    3.5},
+            new double[] {2200.0, 2500.0, 2900.0, 3400.0, 4000.0, 4700.0});
         return new ShooterProfile("STEEP_CLOSE", "60° Over Defense (1.0-3.5m)",
-            60.0, LAUNCH_HEIGHT_METERS, TARGET_HEIGHT_METERS, map, 1.0, 3.5, 3000.0);
+            60.0, LAUNCH_HEIGHT_METERS, TARGET_HEIGHT_METERS, map, 1.0, 3.5, 3000.0,
+            10000.0, 100000.0, ShooterControlMode.VELOCITY_VOLTAGE);
     }
 
     private static ShooterProfile createFlatLongProfile() {
-        InterpolatingDoubleTreeMap map = new InterpolatingDoubleTreeMap();
-        map.put(2.5, 3800.0);
-        map.put(3.0, 4200.0);
-        map.put(3.5, 4650.0);
-        map.put(4.0, 5150.0);
-        map.put(4.5, 5700.0);
-        map.put(5.0, 6300.0);
-        map.put(5.5, 6950.0);
-        map.put(6.0, 7650.0);
+        InterpolatingTable map = new InterpolatingTable(
+            new double[] {   2.5,    3.0,    3.5,    4.0,    4.5,    5.0,    5.5,    6.0},
+            new double[] {3800.0, 4200.0, 4650.0, 5150.0, 5700.0, 6300.0, 6950.0, 7650.0});
         return new ShooterProfile("FLAT_LONG", "35° Long Range (2.5-6.0m)",
-            35.0, LAUNCH_HEIGHT_METERS, TARGET_HEIGHT_METERS, map, 2.5, 6.0, 4500.0);
+            35.0, LAUNCH_HEIGHT_METERS, TARGET_HEIGHT_METERS, map, 2.5, 6.0, 4500.0,
+            14000.0, 140000.0, ShooterControlMode.VELOCITY_VOLTAGE);
     }
 
     private static ShooterProfile createExperimentalProfile() {
-        InterpolatingDoubleTreeMap map = new InterpolatingDoubleTreeMap();
-        map.put(1.5, 2700.0);
-        map.put(2.0, 3100.0);
-        map.put(2.5, 3550.0);
-        map.put(3.0, 4050.0);
-        map.put(3.5, 4600.0);
-        map.put(4.0, 5200.0);
-        map.put(4.5, 5850.0);
+        InterpolatingTable map = new InterpolatingTable(
+            new double[] {   1.5,    2.0,    2.5,    3.0,    3.5,    4.0,    4.5},
+            new double[] {2700.0, 3100.0, 3550.0, 4050.0, 4600.0, 5200.0, 5850.0});
         return new ShooterProfile("EXPERIMENTAL", "Test Config (47° - USE CAUTION)",
-            47.0, LAUNCH_HEIGHT_METERS, TARGET_HEIGHT_METERS, map, 1.5, 4.5, 3900.0);
+            47.0, LAUNCH_HEIGHT_METERS, TARGET_HEIGHT_METERS, map, 1.5, 4.5, 3900.0,
+            DEFAULT_SPINUP_ACCEL_RPM_PER_SEC, DEFAULT_SPINUP_JERK_RPM_PER_SEC2,
+            ShooterControlMode.VELOCITY_VOLTAGE);
     }
 }
\ No newline at end of file
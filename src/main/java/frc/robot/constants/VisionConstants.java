@@ -0,0 +1,18 @@
+package frc.robot.constants;
+
+public final class VisionConstants {
+    private VisionConstants() {}
+
+    // Distance history
+    public static final int    DISTANCE_BUFFER_SIZE = 16;
+    public static final double DISTANCE_HISTORY_SECONDS = 0.4;
+    public static final double MAX_EXTRAPOLATION_SECONDS = 0.3;
+    public static final double STALE_MEASUREMENT_SECONDS = 0.5;
+
+    // Time from commanding a setpoint until the ball leaves the shooter
+    public static final double SHOT_EXIT_LATENCY_SECONDS = 0.15;
+
+    // Simulated camera
+    public static final double SIM_CAMERA_LATENCY_SECONDS = 0.07;
+    public static final double SIM_CAMERA_FPS = 30.0;
+}
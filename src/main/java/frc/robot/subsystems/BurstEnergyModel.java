@@ -0,0 +1,66 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.math.MathUtil;
+import frc.robot.constants.ShooterConstants;
+
+/**
+ * Flywheel kinetic energy bookkeeping for bursts, KE = ½Iω². Each ball takes a roughly fixed
+ * amount of energy out of the wheel; every measured shot dip updates a running estimate of it.
+ * The boost is the extra speed that puts back the energy the wheel is still short of the target
+ * plus a fraction of one ball's energy, so a ball fed before full recovery still sees about the
+ * tuned wheel speed.
+ */
+public class BurstEnergyModel {
+    private static final double RPM_TO_RAD_PER_SEC = 2.0 * Math.PI / 60.0;
+
+    private final double moiKgM2;
+    private double energyPerBallJoules;
+    private int shotsLearned = 0;
+
+    public BurstEnergyModel(double moiKgM2, double initialEnergyPerBallJoules) {
+        this.moiKgM2 = moiKgM2;
+        this.energyPerBallJoules = initialEnergyPerBallJoules;
+    }
+
+    public double kineticEnergyJoules(double wheelRPM) {
+        double omega = wheelRPM * RPM_TO_RAD_PER_SEC;
+        return 0.5 * moiKgM2 * omega * omega;
+    }
+
+    public double rpmForEnergy(double joules) {
+        return Math.sqrt(2.0 * Math.max(joules, 0.0) / moiKgM2) / RPM_TO_RAD_PER_SEC;
+    }
+
+    /** Learns from one measured shot: the energy between the pre-shot speed and the bottom of the dip. */
+    public void recordShot(double preShotRPM, double dropRPM) {
+        if (preShotRPM <= 0.0 || dropRPM <= 0.0 || dropRPM >= preShotRPM) {
+            return;
+        }
+        double lost = kineticEnergyJoules(preShotRPM) - kineticEnergyJoules(preShotRPM - dropRPM);
+        energyPerBallJoules += ShooterConstants.BURST_ENERGY_ALPHA * (lost - energyPerBallJoules);
+        shotsLearned++;
+    }
+
+    /**
+     * Extra RPM to command just before contact when aiming for {@code targetRPM} with the wheel at
+     * {@code currentRPM}: the energy it is short of the target plus the boost fraction of a ball.
+     */
+    public double getBoostRPM(double targetRPM, double currentRPM) {
+        if (targetRPM <= 0.0) {
+            return 0.0;
+        }
+        double targetJoules = kineticEnergyJoules(targetRPM);
+        double deficitJoules = Math.max(targetJoules - kineticEnergyJoules(Math.max(currentRPM, 0.0)), 0.0);
+        double boosted = rpmForEnergy(targetJoules + deficitJoules
+            + ShooterConstants.BURST_BOOST_ENERGY_FRACTION * energyPerBallJoules);
+        return MathUtil.clamp(boosted - targetRPM, 0.0, ShooterConstants.BURST_MAX_BOOST_RPM);
+    }
+
+    public double getEnergyPerBallJoules() {
+        return energyPerBallJoules;
+    }
+
+    public int getShotsLearned() {
+        return shotsLearned;
+    }
+}
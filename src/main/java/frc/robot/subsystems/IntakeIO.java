@@ -0,0 +1,30 @@
+package frc.robot.subsystems;
+
+import java.util.concurrent.CompletableFuture;
+
+/** Everything the intake needs from its pivot motor, so the same logic runs on hardware, in sim and in replay. */
+public interface IntakeIO {
+    /** Reads every signal once into {@code inputs}; the only hardware read in a loop. */
+    void updateInputs(IntakeInputs inputs);
+
+    /** Closed-loop position setpoint in pivot degrees, plus a feedforward the controller adds as-is. */
+    void setPosition(double degrees, double feedforwardVolts);
+
+    void setDutyCycle(double output);
+
+    void stop();
+
+    /** Redefines the current pivot angle as {@code degrees}. */
+    void resetPosition(double degrees);
+
+    /** Turns the soft limits on or off without blocking the loop; homing needs them off. */
+    void setSoftLimitsEnabled(boolean enabled);
+
+    /** Completes with whether startup configuration succeeded. */
+    CompletableFuture<Boolean> getConfiguredFuture();
+
+    /** Current the simulated mechanism draws, for the battery model; 0 elsewhere. */
+    default double getSimulatedCurrentDrawAmps() {
+        return 0.0;
+    }
+}
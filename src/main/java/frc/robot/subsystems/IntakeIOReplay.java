@@ -0,0 +1,43 @@
+package frc.robot.subsystems;
+
+import frc.robot.util.InputsLogReader;
+import frc.robot.util.InputsLogger;
+
+import java.util.concurrent.CompletableFuture;
+
+/** Plays back logged intake inputs one loop at a time; outputs go nowhere. */
+public class IntakeIOReplay implements IntakeIO {
+    private final InputsLogReader.Cursor cursor;
+    private final double[] buffer = new double[new IntakeInputs().fieldNames().length];
+
+    public IntakeIOReplay(InputsLogReader log) {
+        cursor = log.cursor(InputsLogger.ENTRY_PREFIX + IntakeSubsystem.LOG_NAME);
+    }
+
+    @Override
+    public void updateInputs(IntakeInputs inputs) {
+        if (cursor.next(buffer)) {
+            inputs.fromLog(buffer);
+        }
+    }
+
+    @Override
+    public void setPosition(double degrees, double feedforwardVolts) {}
+
+    @Override
+    public void setDutyCycle(double output) {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void resetPosition(double degrees) {}
+
+    @Override
+    public void setSoftLimitsEnabled(boolean enabled) {}
+
+    @Override
+    public CompletableFuture<Boolean> getConfiguredFuture() {
+        return CompletableFuture.completedFuture(true);
+    }
+}
@@ -0,0 +1,71 @@
+package frc.robot.subsystems;
+
+import com.revrobotics.sim.SparkMaxSim;
+
+import edu.wpi.first.math.system.plant.LinearSystemId;
+import edu.wpi.first.math.util.Units;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.simulation.DCMotorSim;
+import frc.robot.constants.IntakeConstants;
+import frc.robot.util.SimFriction;
+
+/**
+ * The SparkMax in simulation, driving a pivot model that is advanced before each read. The model
+ * has a hard stop at the retracted angle and boots {@link IntakeConstants#SIM_BOOT_OFFSET_DEGREES}
+ * away from it, as a real arm left slightly out would.
+ */
+public class IntakeIOSim extends IntakeIOSparkMax {
+    // The hard stop in model coordinates; the encoder reads the boot offset short of the truth
+    private static final double HARD_STOP_RADIANS = 0.0;
+
+    private final DCMotorSim pivotSim = new DCMotorSim(
+        LinearSystemId.createDCMotorSystem(
+            IntakeConstants.SIM_MOTOR, IntakeConstants.SIM_MOI_KG_M2, IntakeConstants.GEAR_RATIO),
+        IntakeConstants.SIM_MOTOR);
+    private final SparkMaxSim sparkSim = new SparkMaxSim(intakeMotor, IntakeConstants.SIM_MOTOR);
+
+    private double lastSimTimestamp = Double.NaN;
+
+    public IntakeIOSim() {
+        pivotSim.setState(Units.degreesToRadians(IntakeConstants.SIM_BOOT_OFFSET_DEGREES), 0.0);
+    }
+
+    @Override
+    public void updateInputs(IntakeInputs inputs) {
+        stepSimulation();
+        super.updateInputs(inputs);
+    }
+
+    @Override
+    public double getSimulatedCurrentDrawAmps() {
+        return pivotSim.getCurrentDrawAmps();
+    }
+
+    private void stepSimulation() {
+        double now = Timer.getFPGATimestamp();
+        double dt = Double.isNaN(lastSimTimestamp) ? 0.02 : now - lastSimTimestamp;
+        lastSimTimestamp = now;
+        if (dt <= 0.0) {
+            return;
+        }
+
+        double busVoltage = RobotController.getBatteryVoltage();
+        double volts = sparkSim.getAppliedOutput() * busVoltage;
+        double previousRadPerSec = pivotSim.getAngularVelocityRadPerSec();
+        pivotSim.setInputVoltage(SimFriction.apply(volts, previousRadPerSec, IntakeConstants.SIM_FRICTION_VOLTS));
+        pivotSim.update(dt);
+        if (SimFriction.crossedZero(previousRadPerSec, pivotSim.getAngularVelocityRadPerSec(),
+                volts, IntakeConstants.SIM_FRICTION_VOLTS)) {
+            pivotSim.setAngularVelocity(0.0);
+        }
+        if (pivotSim.getAngularPositionRad() < HARD_STOP_RADIANS) {
+            pivotSim.setState(HARD_STOP_RADIANS, 0.0);
+        }
+
+        // Velocity in the encoder's units (deg/s); the Spark sim integrates position from it.
+        sparkSim.iterate(Units.radiansToDegrees(pivotSim.getAngularVelocityRadPerSec()), busVoltage, dt);
+        // Against the stop the model is stalled, which is what homing watches for
+        sparkSim.setMotorCurrent(pivotSim.getCurrentDrawAmps());
+    }
+}
@@ -0,0 +1,157 @@
+package frc.robot.subsystems;
+
+import com.revrobotics.spark.SparkMax;
+import com.revrobotics.spark.SparkBase.PersistMode;
+import com.revrobotics.spark.SparkBase.ResetMode;
+import com.revrobotics.spark.SparkBase.ControlType;
+import com.revrobotics.spark.ClosedLoopSlot;
+import com.revrobotics.spark.SparkLowLevel.MotorType;
+import com.revrobotics.spark.config.SparkMaxConfig;
+import com.revrobotics.spark.config.SparkBaseConfig.IdleMode;
+import com.revrobotics.RelativeEncoder;
+import com.revrobotics.REVLibError;
+import com.revrobotics.spark.SparkClosedLoopController;
+import com.revrobotics.spark.SparkClosedLoopController.ArbFFUnits;
+import frc.robot.constants.IntakeConstants;
+import frc.robot.Constants.DeviceConstants;
+import frc.robot.util.DeviceConfigCache;
+import frc.robot.util.DeviceConfigurator;
+
+import edu.wpi.first.wpilibj.Timer;
+
+import java.util.concurrent.CompletableFuture;
+
+/** The intake pivot's SparkMax, configured off the main thread. */
+public class IntakeIOSparkMax implements IntakeIO {
+
+    private static final String CONFIG_DEVICE = "IntakeSparkMax";
+
+    protected final SparkMax intakeMotor;
+    private final RelativeEncoder encoder;
+    private final SparkClosedLoopController pidController;
+
+    private final CompletableFuture<Boolean> configuredFuture;
+
+    private final SparkMaxConfig softLimitsOn = new SparkMaxConfig();
+    private final SparkMaxConfig softLimitsOff = new SparkMaxConfig();
+
+    public IntakeIOSparkMax() {
+        intakeMotor = new SparkMax(IntakeConstants.INTAKE_MOTOR_ID, MotorType.kBrushless);
+
+        SparkMaxConfig baseConfig = new SparkMaxConfig();
+        baseConfig.idleMode(IdleMode.kBrake)
+              .smartCurrentLimit(30)
+              .inverted(false);
+
+        double positionConversionFactor = 360.0 / IntakeConstants.GEAR_RATIO;
+        SparkMaxConfig encoderConfig = new SparkMaxConfig();
+        encoderConfig.encoder
+              .positionConversionFactor(positionConversionFactor)
+              .velocityConversionFactor(positionConversionFactor / 60.0);
+
+        SparkMaxConfig closedLoopConfig = new SparkMaxConfig();
+        closedLoopConfig.closedLoop
+              .pid(IntakeConstants.kP, IntakeConstants.kI, IntakeConstants.kD)
+              .positionWrappingEnabled(false);
+
+        SparkMaxConfig softLimitConfig = new SparkMaxConfig();
+        softLimitConfig.softLimit
+              .forwardSoftLimit(IntakeConstants.INTAKE_EXTENDED_DEGREES + 10)
+              .forwardSoftLimitEnabled(true)
+              .reverseSoftLimit(IntakeConstants.INTAKE_RETRACTED_DEGREES - 10)
+              .reverseSoftLimitEnabled(true);
+
+        SparkMaxConfig signalsConfig = new SparkMaxConfig();
+        signalsConfig.signals
+              .outputCurrentPeriodMs(20)
+              .appliedOutputPeriodMs(20)
+              .busVoltagePeriodMs(20);
+
+        SparkMaxConfig config = new SparkMaxConfig();
+        config.apply(baseConfig)
+              .apply(encoderConfig)
+              .apply(closedLoopConfig)
+              .apply(softLimitConfig)
+              .apply(signalsConfig);
+
+        softLimitsOn.softLimit.forwardSoftLimitEnabled(true).reverseSoftLimitEnabled(true);
+        softLimitsOff.softLimit.forwardSoftLimitEnabled(false).reverseSoftLimitEnabled(false);
+
+        encoder = intakeMotor.getEncoder();
+        pidController = intakeMotor.getClosedLoopController();
+
+        configuredFuture = DeviceConfigurator.apply("Intake SparkMax", () -> {
+            boolean applied = DeviceConfigCache.apply(CONFIG_DEVICE,
+                () -> intakeMotor.configure(config, ResetMode.kResetSafeParameters,
+                                            PersistMode.kPersistParameters) == REVLibError.kOk,
+                () -> readBackMatches(positionConversionFactor),
+                section("Base", baseConfig),
+                section("Encoder", encoderConfig),
+                section("ClosedLoop", closedLoopConfig),
+                section("SoftLimit", softLimitConfig),
+                section("Signals", signalsConfig));
+            if (!applied) {
+                return false;
+            }
+            intakeMotor.clearFaults();
+            return encoder.setPosition(IntakeConstants.INTAKE_RETRACTED_DEGREES) == REVLibError.kOk;
+        });
+    }
+
+    @Override
+    public void updateInputs(IntakeInputs inputs) {
+        inputs.timestampSeconds  = Timer.getFPGATimestamp();
+        inputs.positionDegrees   = encoder.getPosition();
+        inputs.velocityDegPerSec = encoder.getVelocity();
+        inputs.appliedOutput     = intakeMotor.getAppliedOutput();
+        inputs.outputCurrentAmps = intakeMotor.getOutputCurrent();
+        inputs.busVoltage        = intakeMotor.getBusVoltage();
+    }
+
+    @Override
+    public void setPosition(double degrees, double feedforwardVolts) {
+        pidController.setSetpoint(degrees, ControlType.kPosition, ClosedLoopSlot.kSlot0,
+                                  feedforwardVolts, ArbFFUnits.kVoltage);
+    }
+
+    @Override
+    public void setDutyCycle(double output) {
+        intakeMotor.set(output);
+    }
+
+    @Override
+    public void stop() {
+        intakeMotor.stopMotor();
+    }
+
+    @Override
+    public void resetPosition(double degrees) {
+        encoder.setPosition(degrees);
+    }
+
+    @Override
+    public void setSoftLimitsEnabled(boolean enabled) {
+        // Not persisted: a reboot always comes back with the limits on
+        intakeMotor.configureAsync(enabled ? softLimitsOn : softLimitsOff,
+                                   ResetMode.kNoResetSafeParameters, PersistMode.kNoPersistParameters);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> getConfiguredFuture() {
+        return configuredFuture;
+    }
+
+    /** A config section that, when changed, is pushed alone without resetting the other parameters. */
+    private DeviceConfigCache.Section section(String name, SparkMaxConfig sectionConfig) {
+        return new DeviceConfigCache.Section(name, sectionConfig.flatten(), () ->
+            intakeMotor.configure(sectionConfig, ResetMode.kNoResetSafeParameters,
+                                  PersistMode.kPersistParameters) == REVLibError.kOk);
+    }
+
+    private boolean readBackMatches(double positionConversionFactor) {
+        return Math.abs(intakeMotor.configAccessor.encoder.getPositionConversionFactor() - positionConversionFactor)
+                   < DeviceConstants.CONFIG_READBACK_TOLERANCE
+            && Math.abs(intakeMotor.configAccessor.closedLoop.getP() - IntakeConstants.kP)
+                   < DeviceConstants.CONFIG_READBACK_TOLERANCE;
+    }
+}
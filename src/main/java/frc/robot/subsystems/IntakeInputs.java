@@ -0,0 +1,43 @@
+package frc.robot.subsystems;
+
+import frc.robot.util.LoggableInputs;
+
+/** One consistent sample of the intake pivot, filled by an {@link IntakeIO} once per loop. */
+public class IntakeInputs implements LoggableInputs {
+    private static final String[] FIELDS = {
+        "timestampSeconds", "positionDegrees", "velocityDegPerSec",
+        "appliedOutput", "outputCurrentAmps", "busVoltage"};
+
+    public double timestampSeconds = 0.0;
+
+    public double positionDegrees = 0.0;
+    public double velocityDegPerSec = 0.0;
+    public double appliedOutput = 0.0;
+    public double outputCurrentAmps = 0.0;
+    public double busVoltage = 0.0;
+
+    @Override
+    public String[] fieldNames() {
+        return FIELDS;
+    }
+
+    @Override
+    public void toLog(double[] values) {
+        values[0] = timestampSeconds;
+        values[1] = positionDegrees;
+        values[2] = velocityDegPerSec;
+        values[3] = appliedOutput;
+        values[4] = outputCurrentAmps;
+        values[5] = busVoltage;
+    }
+
+    @Override
+    public void fromLog(double[] values) {
+        timestampSeconds  = values[0];
+        positionDegrees   = values[1];
+        velocityDegPerSec = values[2];
+        appliedOutput     = values[3];
+        outputCurrentAmps = values[4];
+        busVoltage        = values[5];
+    }
+}
@@ -1,66 +1,102 @@
 package frc.robot.subsystems;
 
-import com.revrobotics.spark.SparkMax;
-import com.revrobotics.spark.SparkBase.PersistMode;
-import com.revrobotics.spark.SparkBase.ResetMode;
-import com.revrobotics.spark.SparkBase.ControlType;
-import com.revrobotics.spark.ClosedLoopSlot;
-import com.revrobotics.spark.SparkLowLevel.MotorType;
-import com.revrobotics.spark.config.SparkMaxConfig;
-import com.revrobotics.spark.config.SparkBaseConfig.IdleMode;
-import com.revrobotics.RelativeEncoder;
-import com.revrobotics.spark.SparkClosedLoopController;
 import frc.robot.constants.IntakeConstants;
-
+import frc.robot.Constants.ProfilingConstants;
+import frc.robot.util.InputsLogger;
+import frc.robot.util.InterpolatingTable;
+import frc.robot.util.LoopProfiler;
+import frc.robot.util.PersistentAlert;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.controller.ArmFeedforward;
+import edu.wpi.first.math.filter.Debouncer;
+import edu.wpi.first.math.trajectory.TrapezoidProfile;
+import edu.wpi.first.math.util.Units;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
+import edu.wpi.first.wpilibj.Alert.AlertType;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.RobotController;
 import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
 
+import java.util.concurrent.CompletableFuture;
+
 public class IntakeSubsystem extends SubsystemBase {
 
-    private final SparkMax intakeMotor;
-    private final RelativeEncoder encoder;
-    private final SparkClosedLoopController pidController;
+    /** Name of the intake's inputs entry in the data log. */
+    public static final String LOG_NAME = "Intake";
+
+    private final IntakeIO io;
+    private final IntakeInputs inputs = new IntakeInputs();
+    private final InputsLogger inputsLogger = new InputsLogger(LOG_NAME, inputs);
 
     private double targetPosition = IntakeConstants.INTAKE_RETRACTED_DEGREES;
     private boolean manualMode = false;
+    private boolean positionControl = false;
+
+    private final TrapezoidProfile profile = new TrapezoidProfile(new TrapezoidProfile.Constraints(
+        IntakeConstants.MAX_VELOCITY_DEG_PER_SEC, IntakeConstants.MAX_ACCELERATION_DEG_PER_SEC2));
+    // The gravity term does nothing until IntakeConstants.kG is characterized
+    private final ArmFeedforward feedforward =
+        new ArmFeedforward(IntakeConstants.kS, IntakeConstants.kG, IntakeConstants.kV);
+
+    // The current move, sampled once when it starts so following it each loop is a table lookup
+    private InterpolatingTable positionTrajectory;
+    private InterpolatingTable velocityTrajectory;
+    private double moveStartTime = 0.0;
+    private double moveDuration = 0.0;
+    private boolean moveInProgress = false;
+    private double lastMoveSeconds = 0.0;
+
+    private double profilePosition = IntakeConstants.INTAKE_RETRACTED_DEGREES;
+    private double profileVelocity = 0.0;
+    private double feedforwardVolts = 0.0;
+
+    // Homing runs on the first enable once the motor is configured; extend/retract asked for
+    // meanwhile wait in pendingTarget. A stop aborts it until the next enable or move request.
+    // If configuration fails it is skipped: without the current limit the stall check can't be
+    // trusted to stop the push against the hard stop.
+    private boolean homed = false;
+    private boolean homing = false;
+    private boolean homingGaveUp = false;
+    private boolean homingAborted = false;
+    private double homingStartTime = 0.0;
+    private double lastHomingSeconds = 0.0;
+    private double pendingTarget = Double.NaN;
+    private final Debouncer stallDebouncer =
+        new Debouncer(IntakeConstants.HOMING_DEBOUNCE_SECONDS, Debouncer.DebounceType.kRising);
+    private final PersistentAlert homingFailedAlert = new PersistentAlert(
+        "Intake", "Intake homing found no hard stop - using boot position", AlertType.kError);
+    private final PersistentAlert configurationFailedAlert = new PersistentAlert(
+        "Intake", "Intake motor configuration failed - not homed, using boot position", AlertType.kError);
+
+    private volatile boolean motorConfigured = false;
+    private volatile boolean configurationFailed = false;
+    private final CompletableFuture<Boolean> configuredFuture;
+
+    private final LoopProfiler.Probe periodicProbe =
+        LoopProfiler.probe("Intake/periodic", ProfilingConstants.SUBSYSTEM_BUDGET_MICROS);
+
+    public IntakeSubsystem(IntakeIO io) {
+        this.io = io;
+        configuredFuture = io.getConfiguredFuture();
+        configuredFuture.whenComplete((ok, error) -> {
+            motorConfigured = error == null && ok;
+            configurationFailed = !motorConfigured;
+        });
+    }
 
-    private boolean holdingPosition = false;
-
-    public IntakeSubsystem() {
-        intakeMotor = new SparkMax(IntakeConstants.INTAKE_MOTOR_ID, MotorType.kBrushless);
-
-        SparkMaxConfig config = new SparkMaxConfig();
-        config.idleMode(IdleMode.kBrake)
-              .smartCurrentLimit(30)
-              .inverted(false);
-
-        double positionConversionFactor = 360.0 / IntakeConstants.GEAR_RATIO;
-        config.encoder
-              .positionConversionFactor(positionConversionFactor)
-              .velocityConversionFactor(positionConversionFactor / 60.0);
-
-        config.closedLoop
-              .pid(IntakeConstants.kP, IntakeConstants.kI, IntakeConstants.kD)
-              .positionWrappingEnabled(false);
-
-        config.softLimit
-              .forwardSoftLimit(IntakeConstants.INTAKE_EXTENDED_DEGREES + 10)
-              .forwardSoftLimitEnabled(true)
-              .reverseSoftLimit(IntakeConstants.INTAKE_RETRACTED_DEGREES - 10)
-              .reverseSoftLimitEnabled(true);
-
-        config.signals
-              .outputCurrentPeriodMs(20)
-              .appliedOutputPeriodMs(20)
-              .busVoltagePeriodMs(20);
-
-        intakeMotor.configure(config, ResetMode.kResetSafeParameters, PersistMode.kPersistParameters);
-        intakeMotor.clearFaults();
+    /** Completes with whether the SparkMax configuration was applied; see {@link #isReady()}. */
+    public CompletableFuture<Boolean> getReadyFuture() {
+        return configuredFuture;
+    }
 
-        encoder = intakeMotor.getEncoder();
-        pidController = intakeMotor.getClosedLoopController();
+    /** True once startup configuration has finished, whether or not it succeeded. */
+    public boolean isReady() {
+        return configuredFuture.isDone();
+    }
 
-        encoder.setPosition(IntakeConstants.INTAKE_RETRACTED_DEGREES);
+    public boolean isMotorConfigured() {
+        return motorConfigured;
     }
 
     public void extend() {
@@ -80,72 +116,283 @@ public class IntakeSubsystem extends SubsystemBase {
     }
 
     public void setSpeed(double speed) {
+        if (homing) {
+            // The operator has taken over; trust them rather than fight them
+            finishHoming(false);
+        }
         manualMode = true;
-        holdingPosition = false;
-        intakeMotor.set(speed);
-        targetPosition = encoder.getPosition();
+        positionControl = false;
+        moveInProgress = false;
+        io.setDutyCycle(speed);
+        targetPosition = inputs.positionDegrees;
     }
 
+    /** Cuts output immediately, homing included; an aborted homing runs again later. */
     public void stop() {
-        intakeMotor.stopMotor();
-        targetPosition = encoder.getPosition();
-        holdingPosition = false;
+        pendingTarget = Double.NaN;
+        if (homing) {
+            abortHoming();
+        }
+        io.stop();
+        targetPosition = inputs.positionDegrees;
+        positionControl = false;
+        moveInProgress = false;
         manualMode = false;
     }
 
     public void calibrate() {
-        encoder.setPosition(IntakeConstants.INTAKE_RETRACTED_DEGREES);
+        if (homing) {
+            io.setSoftLimitsEnabled(true);
+            homing = false;
+        }
+        homed = true;
+        homingFailedAlert.clear();
+        pendingTarget = Double.NaN;
+        io.resetPosition(IntakeConstants.INTAKE_RETRACTED_DEGREES);
+        inputs.positionDegrees = IntakeConstants.INTAKE_RETRACTED_DEGREES;
         targetPosition = IntakeConstants.INTAKE_RETRACTED_DEGREES;
         manualMode = false;
-        holdingPosition = false;
+        positionControl = false;
+        moveInProgress = false;
         System.out.println("Intake encoder calibrated to " + IntakeConstants.INTAKE_RETRACTED_DEGREES + " degrees");
     }
 
     public boolean isExtended() {
-        return Math.abs(encoder.getPosition() - IntakeConstants.INTAKE_EXTENDED_DEGREES)
+        return Math.abs(inputs.positionDegrees - IntakeConstants.INTAKE_EXTENDED_DEGREES)
                < IntakeConstants.POSITION_TOLERANCE;
     }
 
     public boolean isRetracted() {
-        return Math.abs(encoder.getPosition() - IntakeConstants.INTAKE_RETRACTED_DEGREES)
+        return Math.abs(inputs.positionDegrees - IntakeConstants.INTAKE_RETRACTED_DEGREES)
                < IntakeConstants.POSITION_TOLERANCE;
     }
 
     public boolean atTarget() {
-        boolean positionOk = Math.abs(encoder.getPosition() - targetPosition)
+        boolean positionOk = Math.abs(inputs.positionDegrees - targetPosition)
                              < IntakeConstants.POSITION_TOLERANCE;
         boolean velocityOk = Math.abs(getVelocity()) < 5.0; // deg/s
         return positionOk && velocityOk;
     }
 
-    public double getPosition()      { return encoder.getPosition(); }
-    public double getVelocity()      { return encoder.getVelocity(); }
+    public double getPosition()      { return inputs.positionDegrees; }
+    public double getVelocity()      { return inputs.velocityDegPerSec; }
     public double getTargetPosition(){ return targetPosition; }
-    public double getMotorCurrent()  { return intakeMotor.getOutputCurrent(); }
+    public double getMotorCurrent()  { return inputs.outputCurrentAmps; }
     public boolean isManualMode()    { return manualMode; }
+    public boolean isMoving()        { return moveInProgress; }
+    public boolean isHomed()         { return homed; }
+    public boolean isHoming()        { return homing; }
+
+    /** Seconds the last extend/retract took from command to {@link #atTarget()}. */
+    public double getLastMoveSeconds() { return lastMoveSeconds; }
 
     @Deprecated
     public void resetEncoder() { calibrate(); }
 
+    /**
+     * Plans a trapezoidal move to {@code positionDeg}, starting from where the arm is (or from the
+     * running move, so a reversal mid-travel stays smooth), and begins following it.
+     */
     private void setTargetPosition(double positionDeg) {
-        holdingPosition = false;
+        if (positionControl && positionDeg == targetPosition) {
+            return;
+        }
+        if (needsHoming()) {
+            targetPosition = positionDeg;
+            pendingTarget = positionDeg;
+            startHoming();
+            return;
+        }
+
+        double now = inputs.timestampSeconds;
+        TrapezoidProfile.State start = positionControl
+            ? new TrapezoidProfile.State(profilePosition, profileVelocity)
+            : new TrapezoidProfile.State(inputs.positionDegrees, inputs.velocityDegPerSec);
+        TrapezoidProfile.State goal = new TrapezoidProfile.State(positionDeg, 0.0);
+
+        profile.calculate(0.0, start, goal);
+        double duration = profile.totalTime();
+        int samples = Math.max(2, (int) Math.ceil(duration / IntakeConstants.PROFILE_SAMPLE_SECONDS) + 1);
+        double spacing = duration / (samples - 1);
+        if (spacing > 0.0) {
+            double[] times = new double[samples];
+            double[] positions = new double[samples];
+            double[] velocities = new double[samples];
+            for (int i = 0; i < samples; i++) {
+                TrapezoidProfile.State state = profile.calculate(spacing * i, start, goal);
+                times[i] = spacing * i;
+                positions[i] = state.position;
+                velocities[i] = state.velocity;
+            }
+            positionTrajectory = new InterpolatingTable(times, positions);
+            velocityTrajectory = new InterpolatingTable(times, velocities);
+        } else {
+            positionTrajectory = null;
+            velocityTrajectory = null;
+        }
+
         manualMode = false;
+        positionControl = true;
+        moveInProgress = true;
         targetPosition = positionDeg;
-        pidController.setSetpoint(targetPosition, ControlType.kPosition, ClosedLoopSlot.kSlot0);
+        moveStartTime = now;
+        moveDuration = duration;
+        followProfile();
+    }
+
+    /** True until homing has either found the hard stop or given up; moves wait for it. */
+    private boolean needsHoming() {
+        return !homed && !homingGaveUp;
+    }
+
+    /** Re-homes on demand, e.g. after the arm was knocked against its stop mid-match. */
+    public void home() {
+        homed = false;
+        homingGaveUp = false;
+        startHoming();
+    }
+
+    private void startHoming() {
+        if (homing || !motorConfigured) {
+            return;
+        }
+        homing = true;
+        homingAborted = false;
+        manualMode = false;
+        positionControl = false;
+        moveInProgress = false;
+        homingStartTime = inputs.timestampSeconds;
+        stallDebouncer.calculate(false);
+        io.setSoftLimitsEnabled(false);
+        io.setDutyCycle(homingOutput());
+    }
+
+    /** Stalled against the stop means pushing with current but not moving, for the debounce time. */
+    private void updateHoming() {
+        boolean stalled = stallDebouncer.calculate(
+            inputs.outputCurrentAmps > IntakeConstants.HOMING_STALL_CURRENT_AMPS
+                && Math.abs(inputs.velocityDegPerSec) < IntakeConstants.HOMING_STALL_VELOCITY_DEG_PER_SEC);
+        if (stalled) {
+            finishHoming(true);
+        } else if (inputs.timestampSeconds - homingStartTime > IntakeConstants.HOMING_TIMEOUT_SECONDS) {
+            finishHoming(false);
+        } else {
+            io.setDutyCycle(homingOutput());
+        }
+    }
+
+    /**
+     * Duty cycle that holds the homing approach speed: the arm feedforward for that speed plus a
+     * proportional correction, capped at {@link IntakeConstants#HOMING_MAX_VOLTS}. Against the stop
+     * the correction saturates, so the push is bounded however long the debounce takes.
+     */
+    private double homingOutput() {
+        double volts = feedforward.calculate(
+                Units.degreesToRadians(inputs.positionDegrees - IntakeConstants.HORIZONTAL_DEGREES),
+                Units.degreesToRadians(IntakeConstants.HOMING_VELOCITY_DEG_PER_SEC))
+            + IntakeConstants.HOMING_kP * (IntakeConstants.HOMING_VELOCITY_DEG_PER_SEC - inputs.velocityDegPerSec);
+        volts = MathUtil.clamp(volts, -IntakeConstants.HOMING_MAX_VOLTS, IntakeConstants.HOMING_MAX_VOLTS);
+        double busVoltage = inputs.busVoltage > 0.0 ? inputs.busVoltage : RobotController.getBatteryVoltage();
+        return volts / busVoltage;
+    }
+
+    private void finishHoming(boolean foundStop) {
+        io.stop();
+        if (foundStop) {
+            io.resetPosition(IntakeConstants.INTAKE_RETRACTED_DEGREES);
+            inputs.positionDegrees = IntakeConstants.INTAKE_RETRACTED_DEGREES;
+            inputs.velocityDegPerSec = 0.0;
+        }
+        io.setSoftLimitsEnabled(true);
+        homing = false;
+        homed = foundStop;
+        homingGaveUp = !foundStop;
+        homingFailedAlert.set(!foundStop);
+        lastHomingSeconds = inputs.timestampSeconds - homingStartTime;
+        targetPosition = inputs.positionDegrees;
+        runPendingTarget();
+    }
+
+    /** Gives up on homing without driving the motor, so waiting moves run from the boot position. */
+    private void skipHoming() {
+        homingGaveUp = true;
+        configurationFailedAlert.set(true);
+        targetPosition = inputs.positionDegrees;
+        runPendingTarget();
+    }
+
+    private void runPendingTarget() {
+        double pending = pendingTarget;
+        pendingTarget = Double.NaN;
+        if (!Double.isNaN(pending)) {
+            setTargetPosition(pending);
+        }
+    }
+
+    /**
+     * Ends homing without a zero and without giving up on it: it starts again on the next enable,
+     * or as soon as a move or {@link #home()} asks for it.
+     */
+    private void abortHoming() {
+        io.stop();
+        io.setSoftLimitsEnabled(true);
+        homing = false;
+        homingAborted = true;
+        lastHomingSeconds = inputs.timestampSeconds - homingStartTime;
+        targetPosition = inputs.positionDegrees;
+    }
+
+    /** Sends this loop's profile setpoint with its gravity and velocity feedforward. */
+    private void followProfile() {
+        double elapsed = inputs.timestampSeconds - moveStartTime;
+        if (positionTrajectory != null && elapsed < moveDuration) {
+            profilePosition = positionTrajectory.get(elapsed);
+            profileVelocity = velocityTrajectory.get(elapsed);
+        } else {
+            profilePosition = targetPosition;
+            profileVelocity = 0.0;
+        }
+
+        feedforwardVolts = feedforward.calculate(
+            Units.degreesToRadians(profilePosition - IntakeConstants.HORIZONTAL_DEGREES),
+            Units.degreesToRadians(profileVelocity));
+        io.setPosition(profilePosition, feedforwardVolts);
+
+        if (moveInProgress && elapsed >= moveDuration && atTarget()) {
+            moveInProgress = false;
+            lastMoveSeconds = elapsed;
+        }
+    }
+
+    /** Current the pivot model is drawing, for the simulated battery; 0 on a real robot. */
+    public double getSimulatedCurrentDrawAmps() {
+        return io.getSimulatedCurrentDrawAmps();
+    }
+
+    /** The latest inputs sample; valid until the next {@link #periodic()}. */
+    public IntakeInputs getInputs() {
+        return inputs;
     }
 
     @Override
     public void periodic() {
-        // Reached target → stop motor, brake mode holds — eliminates oscillation
-        if (!manualMode && !holdingPosition && atTarget()) {
-            intakeMotor.stopMotor();
-            holdingPosition = true;
+        long periodicStart = RobotController.getFPGATime();
+        io.updateInputs(inputs);
+        inputsLogger.log();
+
+        if (needsHoming() && configurationFailed) {
+            skipHoming();
+        } else if (!DriverStation.isEnabled()) {
+            homingAborted = false;
+        } else if (needsHoming() && !homingAborted && motorConfigured) {
+            startHoming();
         }
 
-        // Drifted out of tolerance → re-engage PID to correct
-        if (!manualMode && holdingPosition && !atTarget()) {
-            holdingPosition = false;
-            pidController.setSetpoint(targetPosition, ControlType.kPosition, ClosedLoopSlot.kSlot0);
+        // Follow the move, then keep holding the target with gravity compensation
+        if (homing) {
+            updateHoming();
+        } else if (positionControl) {
+            followProfile();
         }
 
         SmartDashboard.putNumber("Intake/Position (deg)", getPosition());
@@ -155,14 +402,25 @@ public class IntakeSubsystem extends SubsystemBase {
         SmartDashboard.putBoolean("Intake/Is Extended", isExtended());
         SmartDashboard.putBoolean("Intake/Is Retracted", isRetracted());
         SmartDashboard.putBoolean("Intake/At Target", atTarget());
-        SmartDashboard.putBoolean("Intake/Holding Position", holdingPosition);
+        SmartDashboard.putBoolean("Intake/Holding Position", positionControl && !moveInProgress);
+        SmartDashboard.putBoolean("Intake/Moving", moveInProgress);
+        SmartDashboard.putNumber("Intake/Profile Position (deg)", profilePosition);
+        SmartDashboard.putNumber("Intake/Profile Velocity (deg/s)", profileVelocity);
+        SmartDashboard.putNumber("Intake/Feedforward (V)", feedforwardVolts);
+        SmartDashboard.putNumber("Intake/Planned Move Time (s)", moveDuration);
+        SmartDashboard.putNumber("Intake/Last Move Time (s)", lastMoveSeconds);
         SmartDashboard.putNumber("Intake/Motor Current", getMotorCurrent());
-        SmartDashboard.putNumber("Intake/Applied Output", intakeMotor.getAppliedOutput());
-        SmartDashboard.putNumber("Intake/Bus Voltage", intakeMotor.getBusVoltage());
+        SmartDashboard.putNumber("Intake/Applied Output", inputs.appliedOutput);
+        SmartDashboard.putNumber("Intake/Bus Voltage", inputs.busVoltage);
         SmartDashboard.putBoolean("Intake/Manual Mode", manualMode);
+        SmartDashboard.putBoolean("Intake/Motor Configured", motorConfigured);
+        SmartDashboard.putBoolean("Intake/Homed", homed);
+        SmartDashboard.putBoolean("Intake/Homing", homing);
+        SmartDashboard.putNumber("Intake/Last Homing Time (s)", lastHomingSeconds);
         SmartDashboard.putBoolean("Intake/High Current Warning", getMotorCurrent() > 25.0);
 
-        boolean isStalled = !manualMode && !holdingPosition &&
+        boolean isStalled = positionControl &&
+                            inputs.timestampSeconds - moveStartTime > moveDuration &&
                             Math.abs(getVelocity()) < 0.5 && !atTarget() &&
                             Math.abs(targetPosition - getPosition()) > IntakeConstants.POSITION_TOLERANCE;
         SmartDashboard.putBoolean("Intake/Stalled", isStalled);
@@ -170,5 +428,6 @@ public class IntakeSubsystem extends SubsystemBase {
         boolean outOfBounds = getPosition() < (IntakeConstants.INTAKE_RETRACTED_DEGREES - 15) ||
                               getPosition() > (IntakeConstants.INTAKE_EXTENDED_DEGREES + 15);
         SmartDashboard.putBoolean("Intake/Out of Bounds", outOfBounds);
+        periodicProbe.record(periodicStart);
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package frc.robot.subsystems;
+
+import com.ctre.phoenix6.controls.ControlRequest;
+import com.ctre.phoenix6.controls.MotionMagicVelocityTorqueCurrentFOC;
+import com.ctre.phoenix6.controls.MotionMagicVelocityVoltage;
+import com.ctre.phoenix6.controls.VelocityDutyCycle;
+import com.ctre.phoenix6.controls.VelocityTorqueCurrentFOC;
+import com.ctre.phoenix6.controls.VelocityVoltage;
+
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop backends for the flywheel TalonFX. Each mode builds a {@link Strategy} that owns its
+ * preallocated control requests, so switching modes or setpoints never allocates.
+ *
+ * <p>Slot0 holds voltage gains (shared by both VelocityVoltage variants), Slot1 torque-current
+ * gains and Slot2 the bang-bang gains. FOC modes need a Phoenix Pro license.
+ */
+public enum ShooterControlMode {
+    VELOCITY_VOLTAGE(() -> voltageStrategy(false)),
+    VELOCITY_VOLTAGE_FOC(() -> voltageStrategy(true)),
+    VELOCITY_TORQUE_FOC(() -> {
+        VelocityTorqueCurrentFOC step = new VelocityTorqueCurrentFOC(0).withSlot(1);
+        MotionMagicVelocityTorqueCurrentFOC profiled = new MotionMagicVelocityTorqueCurrentFOC(0).withSlot(1);
+        return (motorRPS, accelerationRPSPerSec, useProfile) -> useProfile
+            ? profiled.withVelocity(motorRPS).withAcceleration(accelerationRPSPerSec)
+            : step.withVelocity(motorRPS);
+    }),
+    /**
+     * Full output below the setpoint, neutral above it. Runs on the motor controller as a very
+     * stiff VelocityDutyCycle loop with reverse output blocked, so it ignores Motion Magic.
+     */
+    BANG_BANG(() -> {
+        VelocityDutyCycle request = new VelocityDutyCycle(0).withSlot(2).withLimitReverseMotion(true);
+        return (motorRPS, accelerationRPSPerSec, useProfile) -> request.withVelocity(motorRPS);
+    });
+
+    /** Turns a motor velocity setpoint into the request to send. */
+    @FunctionalInterface
+    public interface Strategy {
+        ControlRequest velocity(double motorRPS, double accelerationRPSPerSec, boolean useProfile);
+    }
+
+    private final Supplier<Strategy> factory;
+
+    ShooterControlMode(Supplier<Strategy> factory) {
+        this.factory = factory;
+    }
+
+    public Strategy createStrategy() {
+        return factory.get();
+    }
+
+    private static Strategy voltageStrategy(boolean enableFOC) {
+        VelocityVoltage step = new VelocityVoltage(0).withSlot(0).withEnableFOC(enableFOC);
+        MotionMagicVelocityVoltage profiled = new MotionMagicVelocityVoltage(0).withSlot(0).withEnableFOC(enableFOC);
+        return (motorRPS, accelerationRPSPerSec, useProfile) -> useProfile
+            ? profiled.withVelocity(motorRPS).withAcceleration(accelerationRPSPerSec)
+            : step.withVelocity(motorRPS);
+    }
+}
@@ -0,0 +1,60 @@
+package frc.robot.subsystems;
+
+import frc.robot.constants.ShooterConstants;
+import frc.robot.util.LoggableInputs;
+
+/**
+ * The operator's dashboard settings the shooter acts on, read once per loop and logged like the
+ * motor inputs so a replay sees the same settings the match did. Chooser selections are stored as
+ * numbers: the profile by its name's {@link String#hashCode()}, which doesn't depend on the order
+ * profiles were loaded in, and the modes by ordinal.
+ */
+public class ShooterDashboardInputs implements LoggableInputs {
+    private static final String[] FIELDS = {
+        "profileSelected", "profileNameHash", "spinUpModeOrdinal", "controlModeIndex",
+        "trackingThresholdRPM", "idleInAuto", "idleInTeleop", "learningEnabled", "testDistanceMeters"};
+
+    public boolean profileSelected = false;
+    public int     profileNameHash = 0;
+    /** -1 when nothing is selected. */
+    public int     spinUpModeOrdinal = -1;
+    /** -1 when nothing is selected, 0 for the profile's own mode, otherwise the mode's ordinal + 1. */
+    public int     controlModeIndex = -1;
+
+    public double  trackingThresholdRPM = ShooterConstants.TRACKING_THRESHOLD_RPM;
+    public boolean idleInAuto = ShooterConstants.IDLE_IN_AUTO;
+    public boolean idleInTeleop = ShooterConstants.IDLE_IN_TELEOP;
+    public boolean learningEnabled = false;
+    public double  testDistanceMeters = 2.0;
+
+    @Override
+    public String[] fieldNames() {
+        return FIELDS;
+    }
+
+    @Override
+    public void toLog(double[] values) {
+        values[0] = profileSelected ? 1.0 : 0.0;
+        values[1] = profileNameHash;
+        values[2] = spinUpModeOrdinal;
+        values[3] = controlModeIndex;
+        values[4] = trackingThresholdRPM;
+        values[5] = idleInAuto ? 1.0 : 0.0;
+        values[6] = idleInTeleop ? 1.0 : 0.0;
+        values[7] = learningEnabled ? 1.0 : 0.0;
+        values[8] = testDistanceMeters;
+    }
+
+    @Override
+    public void fromLog(double[] values) {
+        profileSelected      = values[0] != 0.0;
+        profileNameHash      = (int) values[1];
+        spinUpModeOrdinal    = (int) values[2];
+        controlModeIndex     = (int) values[3];
+        trackingThresholdRPM = values[4];
+        idleInAuto           = values[5] != 0.0;
+        idleInTeleop         = values[6] != 0.0;
+        learningEnabled      = values[7] != 0.0;
+        testDistanceMeters   = values[8];
+    }
+}
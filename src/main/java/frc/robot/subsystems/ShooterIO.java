@@ -0,0 +1,26 @@
+package frc.robot.subsystems;
+
+import com.ctre.phoenix6.controls.ControlRequest;
+
+import java.util.concurrent.CompletableFuture;
+
+/** Everything the shooter needs from its motor, so the control logic runs the same on hardware, in sim and in replay. */
+public interface ShooterIO {
+    /** Reads every signal once into {@code inputs}; the only hardware read in a loop. */
+    void updateInputs(ShooterInputs inputs);
+
+    void setControl(ControlRequest request);
+
+    void stop();
+
+    /** Motion Magic limits in motor rotations per second² and per second³. */
+    void setMotionLimits(double accelerationRPSPerSec, double jerkRPSPerSec2);
+
+    /** Completes with whether startup configuration succeeded. */
+    CompletableFuture<Boolean> getConfiguredFuture();
+
+    /** Current the simulated mechanism draws, for the battery model; 0 elsewhere. */
+    default double getSimulatedCurrentDrawAmps() {
+        return 0.0;
+    }
+}
@@ -0,0 +1,41 @@
+package frc.robot.subsystems;
+
+import com.ctre.phoenix6.controls.ControlRequest;
+
+import frc.robot.util.InputsLogReader;
+import frc.robot.util.InputsLogger;
+
+import java.util.concurrent.CompletableFuture;
+
+/** Plays back logged shooter inputs one loop at a time; outputs go nowhere. */
+public class ShooterIOReplay implements ShooterIO {
+    private final InputsLogReader.Cursor cursor;
+    private final double[] buffer = new double[new ShooterInputs().fieldNames().length];
+
+    public ShooterIOReplay(InputsLogReader log) {
+        cursor = log.cursor(InputsLogger.ENTRY_PREFIX + ShooterSubsystem.LOG_NAME);
+    }
+
+    @Override
+    public void updateInputs(ShooterInputs inputs) {
+        if (cursor.next(buffer)) {
+            inputs.fromLog(buffer);
+        } else {
+            inputs.connected = false;
+        }
+    }
+
+    @Override
+    public void setControl(ControlRequest request) {}
+
+    @Override
+    public void stop() {}
+
+    @Override
+    public void setMotionLimits(double accelerationRPSPerSec, double jerkRPSPerSec2) {}
+
+    @Override
+    public CompletableFuture<Boolean> getConfiguredFuture() {
+        return CompletableFuture.completedFuture(true);
+    }
+}
@@ -0,0 +1,64 @@
+package frc.robot.subsystems;
+
+import com.ctre.phoenix6.sim.TalonFXSimState;
+
+import edu.wpi.first.math.system.plant.LinearSystemId;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.simulation.FlywheelSim;
+import frc.robot.constants.ShooterConstants;
+import frc.robot.util.SimFriction;
+
+/**
+ * The TalonFX in simulation, spinning a flywheel model. Each read first advances the model on the
+ * voltage the simulated controller applied since the last loop and feeds the rotor state back,
+ * so the closed loop, readiness and shot logic run unchanged.
+ */
+public class ShooterIOSim extends ShooterIOTalonFX {
+    private final FlywheelSim flywheelSim = new FlywheelSim(
+        LinearSystemId.createFlywheelSystem(
+            ShooterConstants.SIM_MOTOR, ShooterConstants.SIM_FLYWHEEL_MOI_KG_M2, ShooterConstants.GEAR_RATIO),
+        ShooterConstants.SIM_MOTOR);
+
+    private double lastSimTimestamp = Double.NaN;
+    private double lastSimMotorRPS = 0.0;
+
+    @Override
+    public void updateInputs(ShooterInputs inputs) {
+        stepSimulation();
+        super.updateInputs(inputs);
+    }
+
+    @Override
+    public double getSimulatedCurrentDrawAmps() {
+        return flywheelSim.getCurrentDrawAmps();
+    }
+
+    private void stepSimulation() {
+        double now = Timer.getFPGATimestamp();
+        double dt = Double.isNaN(lastSimTimestamp) ? 0.02 : now - lastSimTimestamp;
+        lastSimTimestamp = now;
+        if (dt <= 0.0) {
+            return;
+        }
+
+        TalonFXSimState simState = motor.getSimState();
+        simState.setSupplyVoltage(RobotController.getBatteryVoltage());
+        double volts = simState.getMotorVoltage();
+
+        double previousRadPerSec = flywheelSim.getAngularVelocityRadPerSec();
+        flywheelSim.setInputVoltage(
+            SimFriction.apply(volts, previousRadPerSec, ShooterConstants.SIM_FRICTION_VOLTS));
+        flywheelSim.update(dt);
+        if (SimFriction.crossedZero(previousRadPerSec, flywheelSim.getAngularVelocityRadPerSec(),
+                volts, ShooterConstants.SIM_FRICTION_VOLTS)) {
+            flywheelSim.setAngularVelocity(0.0);
+        }
+
+        double motorRPS = flywheelSim.getAngularVelocityRPM() / 60.0 * ShooterConstants.GEAR_RATIO;
+        simState.setRotorAcceleration((motorRPS - lastSimMotorRPS) / dt);
+        simState.setRotorVelocity(motorRPS);
+        simState.addRotorPosition(motorRPS * dt);
+        lastSimMotorRPS = motorRPS;
+    }
+}
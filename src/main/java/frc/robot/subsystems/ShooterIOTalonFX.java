@@ -0,0 +1,179 @@
+package frc.robot.subsystems;
+
+import com.ctre.phoenix6.BaseStatusSignal;
+import com.ctre.phoenix6.StatusSignal;
+import com.ctre.phoenix6.configs.MotionMagicConfigs;
+import com.ctre.phoenix6.configs.Slot0Configs;
+import com.ctre.phoenix6.configs.Slot1Configs;
+import com.ctre.phoenix6.configs.Slot2Configs;
+import com.ctre.phoenix6.configs.TalonFXConfiguration;
+import com.ctre.phoenix6.configs.TalonFXConfigurator;
+import com.ctre.phoenix6.controls.ControlRequest;
+import com.ctre.phoenix6.hardware.TalonFX;
+import com.ctre.phoenix6.signals.NeutralModeValue;
+
+import edu.wpi.first.units.measure.AngularAcceleration;
+import edu.wpi.first.units.measure.AngularVelocity;
+import edu.wpi.first.units.measure.Current;
+import edu.wpi.first.units.measure.Temperature;
+import edu.wpi.first.units.measure.Voltage;
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.Constants.DeviceConstants;
+import frc.robot.constants.ShooterConstants;
+import frc.robot.util.DeviceConfigCache;
+import frc.robot.util.DeviceConfigurator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/** The shooter's TalonFX: configured off the main thread, read through one batched signal refresh. */
+public class ShooterIOTalonFX implements ShooterIO {
+    private static final String CONFIG_DEVICE = "ShooterTalonFX";
+
+    protected final TalonFX motor;
+
+    private final StatusSignal<AngularVelocity>     velocitySignal;
+    private final StatusSignal<AngularAcceleration> accelerationSignal;
+    private final StatusSignal<Current>             supplyCurrentSignal;
+    private final StatusSignal<Voltage>             supplyVoltageSignal;
+    private final StatusSignal<Double>              closedLoopErrorSignal;
+    private final StatusSignal<Temperature>         temperatureSignal;
+    private final BaseStatusSignal[]                allSignals;
+
+    private final CompletableFuture<Boolean> configuredFuture;
+
+    // Motion limit writes: newest pending limits win, and only one write is ever on the CAN bus
+    private final AtomicReference<MotionMagicConfigs> pendingMotionLimits = new AtomicReference<>();
+    private final AtomicBoolean motionLimitsInFlight = new AtomicBoolean();
+
+    public ShooterIOTalonFX() {
+        motor = new TalonFX(ShooterConstants.MOTOR_ID);
+
+        TalonFXConfiguration config = new TalonFXConfiguration();
+        config.MotorOutput.NeutralMode = NeutralModeValue.Coast;
+
+        Slot0Configs slot0 = config.Slot0;
+        slot0.kP = ShooterConstants.kP_TALON;
+        slot0.kI = ShooterConstants.kI_TALON;
+        slot0.kD = ShooterConstants.kD_TALON;
+        slot0.kV = ShooterConstants.kV_TALON;
+        slot0.kS = ShooterConstants.kS_TALON;
+
+        Slot1Configs slot1 = config.Slot1;
+        slot1.kP = ShooterConstants.kP_TORQUE;
+        slot1.kI = ShooterConstants.kI_TORQUE;
+        slot1.kD = ShooterConstants.kD_TORQUE;
+        slot1.kS = ShooterConstants.kS_TORQUE;
+
+        Slot2Configs slot2 = config.Slot2;
+        slot2.kP = ShooterConstants.kP_BANG_BANG;
+
+        config.MotionMagic.MotionMagicAcceleration =
+            ShooterConstants.DEFAULT_SPINUP_ACCEL_RPM_PER_SEC * ShooterConstants.GEAR_RATIO / 60.0;
+        config.MotionMagic.MotionMagicJerk =
+            ShooterConstants.DEFAULT_SPINUP_JERK_RPM_PER_SEC2 * ShooterConstants.GEAR_RATIO / 60.0;
+
+        velocitySignal        = motor.getVelocity();
+        accelerationSignal    = motor.getAcceleration();
+        supplyCurrentSignal   = motor.getSupplyCurrent();
+        supplyVoltageSignal   = motor.getSupplyVoltage();
+        closedLoopErrorSignal = motor.getClosedLoopError();
+        temperatureSignal     = motor.getDeviceTemp();
+        // Reused every loop; passing the signals as varargs would allocate an array each refresh
+        allSignals = new BaseStatusSignal[] {
+            velocitySignal, accelerationSignal, supplyCurrentSignal, supplyVoltageSignal,
+            closedLoopErrorSignal, temperatureSignal};
+
+        configuredFuture = DeviceConfigurator.apply("Shooter TalonFX", () ->
+            applyMotorConfig(config)
+            && BaseStatusSignal.setUpdateFrequencyForAll(ShooterConstants.SIGNAL_UPDATE_HZ,
+                   velocitySignal, accelerationSignal, supplyCurrentSignal, supplyVoltageSignal,
+                   closedLoopErrorSignal).isOK()
+            && temperatureSignal.setUpdateFrequency(ShooterConstants.TEMPERATURE_UPDATE_HZ).isOK()
+            && motor.optimizeBusUtilization().isOK());
+    }
+
+    @Override
+    public void updateInputs(ShooterInputs inputs) {
+        inputs.connected = BaseStatusSignal.refreshAll(allSignals).isOK();
+        inputs.timestampSeconds           = Timer.getFPGATimestamp();
+        inputs.motorVelocityRPS           = velocitySignal.getValueAsDouble();
+        inputs.motorAccelerationRPSPerSec = accelerationSignal.getValueAsDouble();
+        inputs.supplyCurrentAmps          = supplyCurrentSignal.getValueAsDouble();
+        inputs.supplyVoltageVolts         = supplyVoltageSignal.getValueAsDouble();
+        inputs.closedLoopErrorRPS         = closedLoopErrorSignal.getValueAsDouble();
+        inputs.temperatureCelsius         = temperatureSignal.getValueAsDouble();
+    }
+
+    @Override
+    public void setControl(ControlRequest request) {
+        motor.setControl(request);
+    }
+
+    @Override
+    public void stop() {
+        motor.stopMotor();
+    }
+
+    /**
+     * Jerk only exists as a persistent Motion Magic setting, so a change queues a config write
+     * behind startup configuration instead of blocking the loop on it. Writes are serialized and
+     * always send the newest limits, so quick profile switches can't land out of order.
+     */
+    @Override
+    public void setMotionLimits(double accelerationRPSPerSec, double jerkRPSPerSec2) {
+        MotionMagicConfigs motionMagic = new MotionMagicConfigs();
+        motionMagic.MotionMagicAcceleration = accelerationRPSPerSec;
+        motionMagic.MotionMagicJerk = jerkRPSPerSec2;
+        pendingMotionLimits.set(motionMagic);
+        if (motionLimitsInFlight.compareAndSet(false, true)) {
+            configuredFuture.thenRun(this::writePendingMotionLimits);
+        }
+    }
+
+    /** Writes the newest pending limits, then goes again if newer ones arrived meanwhile. */
+    private void writePendingMotionLimits() {
+        MotionMagicConfigs limits = pendingMotionLimits.get();
+        DeviceConfigurator.apply("Shooter motion limits",
+            () -> limits == null || motor.getConfigurator().apply(limits).isOK()
+        ).thenAccept(ok -> {
+            // Applied or given up on; either way only a newer request is still worth writing
+            pendingMotionLimits.compareAndSet(limits, null);
+            motionLimitsInFlight.set(false);
+            if (pendingMotionLimits.get() != null && motionLimitsInFlight.compareAndSet(false, true)) {
+                writePendingMotionLimits();
+            }
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> getConfiguredFuture() {
+        return configuredFuture;
+    }
+
+    /** Pushes only the config groups that changed since the last boot; runs on a config worker. */
+    private boolean applyMotorConfig(TalonFXConfiguration config) {
+        TalonFXConfigurator configurator = motor.getConfigurator();
+        return DeviceConfigCache.apply(CONFIG_DEVICE,
+            () -> configurator.apply(config).isOK(),
+            () -> motorSlot0Matches(configurator, config.Slot0),
+            new DeviceConfigCache.Section("MotorOutput", config.MotorOutput.serialize(),
+                () -> configurator.apply(config.MotorOutput).isOK()),
+            new DeviceConfigCache.Section("Slot0", config.Slot0.serialize(),
+                () -> configurator.apply(config.Slot0).isOK()),
+            new DeviceConfigCache.Section("Slot1", config.Slot1.serialize(),
+                () -> configurator.apply(config.Slot1).isOK()),
+            new DeviceConfigCache.Section("Slot2", config.Slot2.serialize(),
+                () -> configurator.apply(config.Slot2).isOK()));
+    }
+
+    private static boolean motorSlot0Matches(TalonFXConfigurator configurator, Slot0Configs expected) {
+        Slot0Configs actual = new Slot0Configs();
+        if (!configurator.refresh(actual).isOK()) {
+            return false;
+        }
+        return Math.abs(actual.kP - expected.kP) < DeviceConstants.CONFIG_READBACK_TOLERANCE
+            && Math.abs(actual.kV - expected.kV) < DeviceConstants.CONFIG_READBACK_TOLERANCE;
+    }
+}
@@ -0,0 +1,49 @@
+package frc.robot.subsystems;
+
+import frc.robot.util.LoggableInputs;
+
+/** One consistent sample of the shooter motor signals, filled by a {@link ShooterIO} once per loop. */
+public class ShooterInputs implements LoggableInputs {
+    private static final String[] FIELDS = {
+        "connected", "timestampSeconds", "motorVelocityRPS", "motorAccelerationRPSPerSec",
+        "supplyCurrentAmps", "supplyVoltageVolts", "closedLoopErrorRPS", "temperatureCelsius"};
+
+    public boolean connected = false;
+    public double  timestampSeconds = 0.0;
+
+    public double motorVelocityRPS = 0.0;
+    public double motorAccelerationRPSPerSec = 0.0;
+    public double supplyCurrentAmps = 0.0;
+    public double supplyVoltageVolts = 12.0;
+    public double closedLoopErrorRPS = 0.0;
+    public double temperatureCelsius = 0.0;
+
+    @Override
+    public String[] fieldNames() {
+        return FIELDS;
+    }
+
+    @Override
+    public void toLog(double[] values) {
+        values[0] = connected ? 1.0 : 0.0;
+        values[1] = timestampSeconds;
+        values[2] = motorVelocityRPS;
+        values[3] = motorAccelerationRPSPerSec;
+        values[4] = supplyCurrentAmps;
+        values[5] = supplyVoltageVolts;
+        values[6] = closedLoopErrorRPS;
+        values[7] = temperatureCelsius;
+    }
+
+    @Override
+    public void fromLog(double[] values) {
+        connected                  = values[0] != 0.0;
+        timestampSeconds           = values[1];
+        motorVelocityRPS           = values[2];
+        motorAccelerationRPSPerSec = values[3];
+        supplyCurrentAmps          = values[4];
+        supplyVoltageVolts         = values[5];
+        closedLoopErrorRPS         = values[6];
+        temperatureCelsius         = values[7];
+    }
+}
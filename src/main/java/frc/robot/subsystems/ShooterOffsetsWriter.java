@@ -0,0 +1,67 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.wpilibj.DriverStation;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Persists learned RPM offsets on a single daemon thread. The control loop only hands over an
+ * immutable snapshot of every offset; saves that arrive while a write is running collapse into the
+ * newest one. Only offsets are stored, never whole profiles, so edits to the base profiles are
+ * never overridden by a learned copy.
+ */
+public class ShooterOffsetsWriter {
+    private final Path file;
+    private final AtomicReference<Map<String, Map<Double, Double>>> pending = new AtomicReference<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ShooterOffsetsWriter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ShooterOffsetsWriter(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /** Offsets saved by an earlier run; empty when there are none or the file can't be read. */
+    public Map<String, Map<Double, Double>> load() {
+        if (!Files.exists(file)) {
+            return Map.of();
+        }
+        try {
+            return ShooterProfileLoader.parseOffsets(file);
+        } catch (IOException | RuntimeException e) {
+            DriverStation.reportWarning("Learned shooter offsets in " + file + " ignored: " + e.getMessage(), false);
+            return Map.of();
+        }
+    }
+
+    /** Queues {@code offsets}, the complete learned set, to be written; returns immediately. */
+    public void save(Map<String, Map<Double, Double>> offsets) {
+        if (pending.getAndSet(offsets) == null) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        Map<String, Map<Double, Double>> offsets = pending.getAndSet(null);
+        if (offsets == null) {
+            return;
+        }
+        try {
+            ShooterProfileLoader.writeOffsets(file, offsets);
+        } catch (IOException | RuntimeException e) {
+            DriverStation.reportWarning("Learned shooter offsets not saved to " + file + ": " + e.getMessage(), false);
+        }
+    }
+}
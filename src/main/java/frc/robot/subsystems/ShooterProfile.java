@@ -1,6 +1,6 @@
 package frc.robot.subsystems;
 
-import edu.wpi.first.math.interpolation.InterpolatingDoubleTreeMap;
+import frc.robot.util.InterpolatingTable;
 
 public class ShooterProfile {
     private final String name;
@@ -10,22 +10,31 @@ public class ShooterProfile {
     private final double launchHeightMeters;
     private final double targetHeightMeters;
 
-    private final InterpolatingDoubleTreeMap distanceToRPM;
+    private final InterpolatingTable distanceToRPM;
+    private final InterpolatingTable solvedDistanceToRPM;
+    private final double slipFactor;
     
     private final double minSafeDistance;
     private final double maxSafeDistance;
     private final double defaultRPM;
 
+    private final double spinUpAccelerationRPMPerSec;
+    private final double spinUpJerkRPMPerSec2;
+    private final ShooterControlMode controlMode;
+
     public ShooterProfile(
         String name,
         String description,
         double angleDegrees,
         double launchHeightMeters,
         double targetHeightMeters,
-        InterpolatingDoubleTreeMap distanceToRPM,
+        InterpolatingTable distanceToRPM,
         double minSafeDistance,
         double maxSafeDistance,
-        double defaultRPM
+        double defaultRPM,
+        double spinUpAccelerationRPMPerSec,
+        double spinUpJerkRPMPerSec2,
+        ShooterControlMode controlMode
     ) {
         this.name = name;
         this.description = description;
@@ -36,6 +45,16 @@ public class ShooterProfile {
         this.minSafeDistance = minSafeDistance;
         this.maxSafeDistance = maxSafeDistance;
         this.defaultRPM = defaultRPM;
+        this.spinUpAccelerationRPMPerSec = spinUpAccelerationRPMPerSec;
+        this.spinUpJerkRPMPerSec2 = spinUpJerkRPMPerSec2;
+        this.controlMode = controlMode;
+
+        double heightDelta = targetHeightMeters - launchHeightMeters;
+        this.slipFactor = ShooterTrajectorySolver.fitSlipFactor(distanceToRPM, angleDegrees, heightDelta);
+        this.solvedDistanceToRPM = ShooterTrajectorySolver.buildDenseTable(
+            distanceToRPM, angleDegrees, heightDelta, slipFactor,
+            Math.min(minSafeDistance, distanceToRPM.getMinKey()),
+            Math.max(maxSafeDistance, distanceToRPM.getMaxKey()));
     }
     
     public String getName() {
@@ -69,10 +88,57 @@ public class ShooterProfile {
     public double getDefaultRPM() {
         return defaultRPM;
     }
+
+    /** Wheel acceleration limit used by the motion-profiled spin-up modes. */
+    public double getSpinUpAccelerationRPMPerSec() {
+        return spinUpAccelerationRPMPerSec;
+    }
+
+    /** Wheel jerk limit used by the motion-profiled spin-up modes; 0 disables jerk limiting. */
+    public double getSpinUpJerkRPMPerSec2() {
+        return spinUpJerkRPMPerSec2;
+    }
+
+    /** Closed-loop backend used unless the dashboard overrides it. */
+    public ShooterControlMode getControlMode() {
+        return controlMode;
+    }
+
+    public InterpolatingTable getDistanceToRPMTable() {
+        return distanceToRPM;
+    }
+
+    public InterpolatingTable getSolvedDistanceToRPMTable() {
+        return solvedDistanceToRPM;
+    }
+
+    public double getSlipFactor() {
+        return slipFactor;
+    }
+
+    /** Same profile with a different tuned table; the solved curve is refit around it. */
+    public ShooterProfile withDistanceToRPM(InterpolatingTable table) {
+        return new ShooterProfile(name, description, angleDegrees, launchHeightMeters, targetHeightMeters,
+            table, minSafeDistance, maxSafeDistance, defaultRPM,
+            spinUpAccelerationRPMPerSec, spinUpJerkRPMPerSec2, controlMode);
+    }
+
+    /** Untuned physics estimate, useful for sanity-checking tuned points on the dashboard. */
+    public double getPhysicsRPMForDistance(double distanceMeters) {
+        return ShooterTrajectorySolver.exitVelocityToWheelRPM(
+            ShooterTrajectorySolver.requiredExitVelocity(
+                distanceMeters, angleDegrees, targetHeightMeters - launchHeightMeters),
+            slipFactor);
+    }
     
 
     public double getRPMForDistance(double distanceMeters) {
-        return distanceToRPM.get(distanceMeters);
+        // Tuned points override the solved curve wherever they reach; the solver only fills a safe
+        // range wider than the tuned table, which none of the built-in profiles have.
+        if (distanceMeters >= distanceToRPM.getMinKey() && distanceMeters <= distanceToRPM.getMaxKey()) {
+            return distanceToRPM.get(distanceMeters);
+        }
+        return solvedDistanceToRPM.get(distanceMeters);
     }
 
     public boolean isDistanceInRange(double distanceMeters) {
@@ -0,0 +1,243 @@
+package frc.robot.subsystems;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import frc.robot.constants.ShooterConstants;
+import frc.robot.util.InterpolatingTable;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Loads shooter profiles from a JSON file in the deploy directory and reloads them whenever the
+ * file changes. All file I/O and parsing happens on a daemon watcher thread; the control loop only
+ * picks up a finished, immutable profile map through {@link #pollUpdate()}.
+ *
+ * <p>The profiles built into {@link ShooterConstants} are the defaults. The file only holds
+ * deliberate overrides, layered over them by name, and ships empty, so a missing or broken file
+ * never leaves the shooter without a profile. Learned corrections are not profiles: they are RPM
+ * offsets (see {@link #parseOffsets}) that {@link ShooterTableLearner} applies on top of whatever
+ * this loads.
+ */
+public class ShooterProfileLoader {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final Map<String, ShooterProfile> builtInProfiles;
+    private final AtomicReference<Map<String, ShooterProfile>> pending = new AtomicReference<>();
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    private Thread watcherThread;
+
+    public ShooterProfileLoader(Path file, Map<String, ShooterProfile> builtInProfiles) {
+        this.file = file;
+        this.builtInProfiles = Map.copyOf(builtInProfiles);
+    }
+
+    /** Starts the watcher thread, which performs the first load right away. */
+    public synchronized void start() {
+        if (watcherThread != null) {
+            return;
+        }
+        watcherThread = new Thread(this::watchLoop, "ShooterProfileWatcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    /** Returns the newest loaded profile map, or null if nothing changed since the last call. */
+    public Map<String, ShooterProfile> pollUpdate() {
+        return pending.getAndSet(null);
+    }
+
+    public int getLoadCount() {
+        return loadCount.get();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    private void watchLoop() {
+        reload();
+
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            DriverStation.reportWarning("Shooter profile directory " + directory + " missing - hot reload disabled", false);
+            return;
+        }
+
+        try (WatchService watcher = FileSystems.getDefault().newWatchService()) {
+            directory.register(watcher,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watcher.take();
+                boolean touched = containsProfileFile(key);
+                key.reset();
+                if (!touched) {
+                    continue;
+                }
+
+                // Editors and deploys tend to write in bursts; settle before parsing.
+                Thread.sleep(ShooterConstants.PROFILE_RELOAD_DEBOUNCE_MS);
+                WatchKey burst;
+                while ((burst = watcher.poll()) != null) {
+                    burst.pollEvents();
+                    burst.reset();
+                }
+                reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | ClosedWatchServiceException e) {
+            DriverStation.reportWarning("Shooter profile watcher stopped: " + e.getMessage(), false);
+        }
+    }
+
+    private boolean containsProfileFile(WatchKey key) {
+        Path fileName = file.getFileName();
+        boolean touched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (fileName.equals(event.context())) {
+                touched = true;
+            }
+        }
+        return touched;
+    }
+
+    private void reload() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        Map<String, ShooterProfile> merged = new HashMap<>(builtInProfiles);
+        try {
+            merged.putAll(parse(file));
+        } catch (IOException | RuntimeException e) {
+            DriverStation.reportWarning(
+                "Shooter profiles in " + file + " not loaded, keeping current set: " + e.getMessage(), false);
+            return;
+        }
+        pending.set(Map.copyOf(merged));
+        loadCount.incrementAndGet();
+    }
+
+    /** Parses a profile file. Throws on malformed content so callers can keep what they have. */
+    public static Map<String, ShooterProfile> parse(Path file) throws IOException {
+        JsonNode root = MAPPER.readTree(file.toFile());
+        JsonNode profiles = root.path("profiles");
+        if (!profiles.isArray()) {
+            throw new IOException("missing \"profiles\" array");
+        }
+
+        Map<String, ShooterProfile> parsed = new HashMap<>();
+        for (JsonNode node : profiles) {
+            ShooterProfile profile = parseProfile(node);
+            parsed.put(profile.getName(), profile);
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses a learned offsets file, {@code {"offsets": [{"profile", "distance", "rpmOffset"}, ...]}},
+     * into RPM offsets by profile name and tuned distance. Throws on malformed content.
+     */
+    public static Map<String, Map<Double, Double>> parseOffsets(Path file) throws IOException {
+        JsonNode offsets = MAPPER.readTree(file.toFile()).path("offsets");
+        if (!offsets.isArray()) {
+            throw new IOException("missing \"offsets\" array");
+        }
+
+        Map<String, Map<Double, Double>> parsed = new HashMap<>();
+        for (JsonNode node : offsets) {
+            String profile = requireText(node, "profile");
+            parsed.computeIfAbsent(profile, name -> new HashMap<>())
+                .put(requireNumber(node, "distance"), requireNumber(node, "rpmOffset"));
+        }
+        return parsed;
+    }
+
+    /** Writes offsets in the format {@link #parseOffsets} reads, replacing the file atomically. */
+    public static void writeOffsets(Path file, Map<String, Map<Double, Double>> offsets) throws IOException {
+        ObjectNode root = MAPPER.createObjectNode();
+        ArrayNode array = root.putArray("offsets");
+        for (Map.Entry<String, Map<Double, Double>> profile : new TreeMap<>(offsets).entrySet()) {
+            for (Map.Entry<Double, Double> point : new TreeMap<>(profile.getValue()).entrySet()) {
+                ObjectNode node = array.addObject();
+                node.put("profile", profile.getKey());
+                node.put("distance", point.getKey());
+                node.put("rpmOffset", point.getValue());
+            }
+        }
+        writeAtomically(file, root);
+    }
+
+    private static void writeAtomically(Path file, ObjectNode root) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), root);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static ShooterProfile parseProfile(JsonNode node) throws IOException {
+        String name = requireText(node, "name");
+        JsonNode distances = node.path("distances");
+        JsonNode rpms = node.path("rpms");
+        if (!distances.isArray() || !rpms.isArray() || distances.size() != rpms.size()) {
+            throw new IOException("profile " + name + " needs matching \"distances\" and \"rpms\" arrays");
+        }
+
+        double[] distanceValues = new double[distances.size()];
+        double[] rpmValues = new double[rpms.size()];
+        for (int i = 0; i < distanceValues.length; i++) {
+            distanceValues[i] = distances.get(i).asDouble();
+            rpmValues[i] = rpms.get(i).asDouble();
+        }
+
+        return new ShooterProfile(
+            name,
+            node.path("description").asText(name),
+            requireNumber(node, "angleDegrees"),
+            node.path("launchHeightMeters").asDouble(ShooterConstants.LAUNCH_HEIGHT_METERS),
+            node.path("targetHeightMeters").asDouble(ShooterConstants.TARGET_HEIGHT_METERS),
+            new InterpolatingTable(distanceValues, rpmValues),
+            requireNumber(node, "minSafeDistance"),
+            requireNumber(node, "maxSafeDistance"),
+            requireNumber(node, "defaultRPM"),
+            node.path("spinUpAccelerationRPMPerSec").asDouble(ShooterConstants.DEFAULT_SPINUP_ACCEL_RPM_PER_SEC),
+            node.path("spinUpJerkRPMPerSec2").asDouble(ShooterConstants.DEFAULT_SPINUP_JERK_RPM_PER_SEC2),
+            ShooterControlMode.valueOf(node.path("controlMode").asText(ShooterControlMode.VELOCITY_VOLTAGE.name())));
+    }
+
+    private static String requireText(JsonNode node, String field) throws IOException {
+        JsonNode value = node.get(field);
+        if (value == null || !value.isTextual()) {
+            throw new IOException("entry missing \"" + field + "\"");
+        }
+        return value.asText();
+    }
+
+    private static double requireNumber(JsonNode node, String field) throws IOException {
+        JsonNode value = node.get(field);
+        if (value == null || !value.isNumber()) {
+            throw new IOException("entry missing numeric \"" + field + "\"");
+        }
+        return value.asDouble();
+    }
+}
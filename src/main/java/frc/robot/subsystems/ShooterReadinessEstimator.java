@@ -0,0 +1,103 @@
+package frc.robot.subsystems;
+
+import frc.robot.constants.ShooterConstants;
+
+/**
+ * Decides when the flywheel is ready from a short window of velocity-error samples instead of a
+ * fixed wait. Ready means the error has been inside tolerance for a few samples and, projected
+ * forward by the current trend, stays there. While spinning up it predicts the time until the
+ * error enters tolerance.
+ *
+ * <p>Samples live in preallocated ring buffers; nothing here allocates per loop.
+ */
+public class ShooterReadinessEstimator {
+    private final int window = ShooterConstants.READY_WINDOW_SAMPLES;
+    private final double[] times = new double[window];
+    private final double[] errors = new double[window];
+
+    private int head = 0;
+    private int count = 0;
+    private int samplesInTolerance = 0;
+
+    private boolean ready = false;
+    private double errorRateRPMPerSec = 0.0;
+    private double predictedTimeToReady = Double.NaN;
+
+    public void reset() {
+        head = 0;
+        count = 0;
+        samplesInTolerance = 0;
+        ready = false;
+        errorRateRPMPerSec = 0.0;
+        predictedTimeToReady = Double.NaN;
+    }
+
+    /**
+     * @param timestampSeconds sample time
+     * @param errorRPM target minus measured wheel RPM
+     * @param wheelAccelerationRPMPerSec measured wheel acceleration
+     */
+    public void addSample(double timestampSeconds, double errorRPM, double wheelAccelerationRPMPerSec) {
+        if (count > 0 && timestampSeconds <= times[(head + window - 1) % window]) {
+            return; // same sample seen twice
+        }
+        times[head] = timestampSeconds;
+        errors[head] = errorRPM;
+        head = (head + 1) % window;
+        if (count < window) {
+            count++;
+        }
+
+        errorRateRPMPerSec = count >= 2 ? errorSlope() : -wheelAccelerationRPMPerSec;
+        double tolerance = ShooterConstants.VELOCITY_TOLERANCE_RPM;
+        double magnitude = Math.abs(errorRPM);
+
+        samplesInTolerance = magnitude < tolerance ? samplesInTolerance + 1 : 0;
+        double projected = errorRPM + errorRateRPMPerSec * ShooterConstants.READY_HORIZON_SECONDS;
+        ready = samplesInTolerance >= ShooterConstants.READY_CONSECUTIVE_SAMPLES
+            && Math.abs(projected) < tolerance
+            && Math.abs(wheelAccelerationRPMPerSec) < ShooterConstants.READY_MAX_ACCEL_RPM_PER_SEC;
+
+        if (magnitude < tolerance) {
+            predictedTimeToReady = 0.0;
+        } else {
+            // Closing when the error shrinks toward zero, i.e. rate has the opposite sign.
+            double closingRate = -Math.signum(errorRPM) * errorRateRPMPerSec;
+            predictedTimeToReady = closingRate > 0.0 ? (magnitude - tolerance) / closingRate : Double.NaN;
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /** Seconds until the error enters tolerance at the current rate; NaN when it isn't closing. */
+    public double getPredictedTimeToReady() {
+        return predictedTimeToReady;
+    }
+
+    public double getErrorRateRPMPerSec() {
+        return errorRateRPMPerSec;
+    }
+
+    /** Least-squares slope of error over the window; smoother than the raw acceleration signal. */
+    private double errorSlope() {
+        double meanTime = 0.0;
+        double meanError = 0.0;
+        for (int i = 0; i < count; i++) {
+            meanTime += times[i];
+            meanError += errors[i];
+        }
+        meanTime /= count;
+        meanError /= count;
+
+        double covariance = 0.0;
+        double variance = 0.0;
+        for (int i = 0; i < count; i++) {
+            double dt = times[i] - meanTime;
+            covariance += dt * (errors[i] - meanError);
+            variance += dt * dt;
+        }
+        return variance > 0.0 ? covariance / variance : 0.0;
+    }
+}
@@ -0,0 +1,9 @@
+package frc.robot.subsystems;
+
+/** How a new flywheel setpoint is reached, independent of the {@link ShooterControlMode} backend. */
+public enum ShooterSpinUpMode {
+    /** Step straight to the target. */
+    STEP,
+    /** Acceleration/jerk-limited Motion Magic ramp using the profile's limits. */
+    MOTION_MAGIC
+}
@@ -1,55 +1,149 @@
 package frc.robot.subsystems;
 
-import com.ctre.phoenix6.configs.TalonFXConfiguration;
-import com.ctre.phoenix6.configs.Slot0Configs;
-import com.ctre.phoenix6.controls.VelocityVoltage;
-import com.ctre.phoenix6.hardware.TalonFX;
-import com.ctre.phoenix6.signals.NeutralModeValue;
-
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.filter.Debouncer;
+import edu.wpi.first.wpilibj.Alert.AlertType;
 import edu.wpi.first.wpilibj.DriverStation;
-import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.Filesystem;
+import edu.wpi.first.wpilibj.RobotController;
 import edu.wpi.first.wpilibj.smartdashboard.SendableChooser;
 import edu.wpi.first.wpilibj.smartdashboard.SmartDashboard;
 import edu.wpi.first.wpilibj2.command.SubsystemBase;
 import frc.robot.constants.ShooterConstants;
-
+import frc.robot.Constants.ProfilingConstants;
+import frc.robot.util.InputsLogReader;
+import frc.robot.util.InputsLogger;
+import frc.robot.util.LoopProfiler;
+import frc.robot.util.PersistentAlert;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public class ShooterSubsystem extends SubsystemBase {
 
-    private final TalonFX motor;
-
-    private final VelocityVoltage velocityRequest =
-        new VelocityVoltage(0).withSlot(0).withEnableFOC(false);
-
-    private final Map<String, ShooterProfile> availableProfiles;
+    /** Name of the shooter's inputs entry in the data log. */
+    public static final String LOG_NAME = "Shooter";
+    /** Name of the shooter's dashboard settings entry in the data log. */
+    public static final String DASHBOARD_LOG_NAME = "ShooterDashboard";
+
+    private final ShooterIO io;
+    private final ShooterInputs inputs = new ShooterInputs();
+    private final InputsLogger inputsLogger = new InputsLogger(LOG_NAME, inputs);
+
+    // Dashboard settings: read live, or from the replayed match when there is one
+    private final ShooterDashboardInputs dashboardInputs = new ShooterDashboardInputs();
+    private final InputsLogger dashboardLogger = new InputsLogger(DASHBOARD_LOG_NAME, dashboardInputs);
+    private final InputsLogReader.Cursor dashboardReplay;
+    private final double[] dashboardBuffer = new double[dashboardInputs.fieldNames().length];
+
+    private static final String PROFILE_CONTROL_MODE = "PROFILE_DEFAULT";
+    private static final ShooterControlMode[] CONTROL_MODES = ShooterControlMode.values();
+    private static final ShooterSpinUpMode[] SPIN_UP_MODES = ShooterSpinUpMode.values();
+
+    private final Map<ShooterControlMode, ShooterControlMode.Strategy> controlStrategies =
+        new EnumMap<>(ShooterControlMode.class);
+    private final SendableChooser<String> controlModeChooser = new SendableChooser<>();
+    private int lastControlModeIndex = 0;
+    private ShooterControlMode controlOverride = null;
+    private ShooterControlMode controlMode = ShooterControlMode.VELOCITY_VOLTAGE;
+
+    private final SendableChooser<ShooterSpinUpMode> spinUpModeChooser = new SendableChooser<>();
+    private ShooterSpinUpMode spinUpMode = ShooterSpinUpMode.STEP;
+    private double appliedAccelerationRPMPerSec = Double.NaN;
+    private double appliedJerkRPMPerSec2 = Double.NaN;
+
+    private Map<String, ShooterProfile> availableProfiles;
+    private final ShooterProfileLoader profileLoader;
     private final SendableChooser<String> profileChooser;
+    private final Set<String> chooserProfileNames = new HashSet<>();
     private ShooterProfile activeProfile;
     private String lastSelectedProfileName = "";
 
     private double  targetWheelRPM = 0.0;
-    private boolean motorConfigured = false;
+    private volatile boolean motorConfigured = false;
+    private final CompletableFuture<Boolean> configuredFuture;
 
     private double  spinupStartTime = -1.0;
     private boolean isSpinningUp = false;
+    private final ShooterReadinessEstimator readiness = new ShooterReadinessEstimator();
+    private final ShotDetector shotDetector = new ShotDetector();
+    private final BurstEnergyModel burstModel = new BurstEnergyModel(
+        ShooterConstants.FLYWHEEL_MOI_KG_M2, ShooterConstants.BURST_INITIAL_ENERGY_PER_BALL_JOULES);
+    private double boostRPM = 0.0;
+    private boolean learningShotDrop = false;
+
+    private boolean tracking = false;
+    private boolean trackingAdjusting = false;
+    private double  trackingThresholdRPM = ShooterConstants.TRACKING_THRESHOLD_RPM;
+    private double  trackedDistanceMeters = 0.0;
+    private boolean trackedDistanceInRange = true;
+    private int     trackingSetpointsSent = 0;
+    private int     trackingUpdatesSuppressed = 0;
+
+    // Learning: the table point a shot came from, so a verdict can be traced back to it
+    private final ShooterOffsetsWriter offsetsWriter = new ShooterOffsetsWriter(
+        Filesystem.getOperatingDirectory().toPath().resolve(ShooterConstants.LEARNED_OFFSETS_FILE_NAME));
+    private final ShooterTableLearner tableLearner = new ShooterTableLearner(offsetsWriter.load());
+    private double  tableShotDistanceMeters = Double.NaN;
+    private double  lastShotDistanceMeters = Double.NaN;
+    private String  lastShotProfileName = "";
+    private final int[] feedbackCounts = new int[ShotFeedback.values().length];
+
+    private boolean timingSpinUp = false;
+    private double  spinUpPeakCurrentAmps = 0.0;
+    private double  lastTimeToReadySeconds = 0.0;
+    private double  lastSpinUpPeakCurrentAmps = 0.0;
+
+    private boolean shotCommanded = false;
+    private boolean idling = false;
+    private boolean idleRequested = false;
+    private boolean gamePieceStaged = false;
+    private boolean idleInAuto = ShooterConstants.IDLE_IN_AUTO;
+    private boolean idleInTeleop = ShooterConstants.IDLE_IN_TELEOP;
+    private boolean batteryLow = false;
+    private boolean overTemperature = false;
+    private final Debouncer batteryLowDebouncer = new Debouncer(
+        ShooterConstants.IDLE_BATTERY_DEBOUNCE_SECONDS, Debouncer.DebounceType.kBoth);
+
+    private final PersistentAlert noProfileAlert =
+        new PersistentAlert("Shooter", "No active profile - using default RPM", AlertType.kError);
+    private final PersistentAlert profileNotFoundAlert =
+        new PersistentAlert("Shooter", "Selected profile not found - using default", AlertType.kError);
+    private final PersistentAlert distanceBelowMinAlert =
+        new PersistentAlert("Shooter", "Distance below profile minimum - clamping", AlertType.kWarning);
+    private final PersistentAlert distanceAboveMaxAlert =
+        new PersistentAlert("Shooter", "Distance above profile maximum - clamping", AlertType.kWarning);
+    private final PersistentAlert activeProfileAlert =
+        new PersistentAlert("Shooter", "Shooter profile", AlertType.kInfo);
+    private ShooterProfile announcedProfile = null;
+    private final PersistentAlert feedbackIgnoredAlert =
+        new PersistentAlert("Shooter", "Shot feedback ignored - no table shot to learn from", AlertType.kWarning);
+
+    private final LoopProfiler.Probe periodicProbe =
+        LoopProfiler.probe("Shooter/periodic", ProfilingConstants.SUBSYSTEM_BUDGET_MICROS);
+
+    public ShooterSubsystem(ShooterIO io) {
+        this(io, null);
+    }
 
-    public ShooterSubsystem() {
-        motor = new TalonFX(ShooterConstants.MOTOR_ID);
-
-        TalonFXConfiguration config = new TalonFXConfiguration();
-        config.MotorOutput.NeutralMode = NeutralModeValue.Coast;
-
-        Slot0Configs slot0 = config.Slot0;
-        slot0.kP = ShooterConstants.kP_TALON;
-        slot0.kI = ShooterConstants.kI_TALON;
-        slot0.kD = ShooterConstants.kD_TALON;
-        slot0.kV = ShooterConstants.kV_TALON;
-        slot0.kS = ShooterConstants.kS_TALON;
-
-        motor.getConfigurator().apply(config);
-        motorConfigured = true;
-
-        availableProfiles = ShooterConstants.createAllProfiles();
+    /**
+     * @param replayLog a recorded match whose logged dashboard settings stand in for the live
+     *     dashboard, or null to read the dashboard
+     */
+    public ShooterSubsystem(ShooterIO io, InputsLogReader replayLog) {
+        this.io = io;
+        dashboardReplay = replayLog != null
+            ? replayLog.cursor(InputsLogger.ENTRY_PREFIX + DASHBOARD_LOG_NAME)
+            : null;
+        configuredFuture = io.getConfiguredFuture();
+        configuredFuture.thenAccept(ok -> motorConfigured = ok);
+
+        Map<String, ShooterProfile> builtInProfiles = ShooterConstants.createAllProfiles();
+        availableProfiles = tableLearner.applyTo(Map.copyOf(builtInProfiles));
         profileChooser    = new SendableChooser<>();
 
         boolean defaultSet = false;
@@ -62,30 +156,107 @@ public class ShooterSubsystem extends SubsystemBase {
             } else {
                 profileChooser.addOption(profile.getDisplayName(), profileName);
             }
+            chooserProfileNames.add(profileName);
+        }
+
+        profileLoader = new ShooterProfileLoader(
+            Filesystem.getDeployDirectory().toPath().resolve(ShooterConstants.PROFILE_FILE_NAME),
+            builtInProfiles);
+        profileLoader.start();
+
+        for (ShooterSpinUpMode mode : ShooterSpinUpMode.values()) {
+            if (mode == ShooterSpinUpMode.STEP) {
+                spinUpModeChooser.setDefaultOption(mode.name(), mode);
+            } else {
+                spinUpModeChooser.addOption(mode.name(), mode);
+            }
+        }
+        SmartDashboard.putData("Shooter/Spin-Up Mode", spinUpModeChooser);
+
+        controlModeChooser.setDefaultOption("Profile default", PROFILE_CONTROL_MODE);
+        for (ShooterControlMode mode : ShooterControlMode.values()) {
+            controlStrategies.put(mode, mode.createStrategy());
+            controlModeChooser.addOption(mode.name(), mode.name());
         }
+        SmartDashboard.putData("Shooter/Control Mode", controlModeChooser);
+
+        SmartDashboard.putNumber("Shooter/Tracking Threshold (RPM)", ShooterConstants.TRACKING_THRESHOLD_RPM);
+        SmartDashboard.putBoolean("Shooter/Idle In Auto", idleInAuto);
+        SmartDashboard.putBoolean("Shooter/Learning Enabled", false);
+        SmartDashboard.putBoolean("Shooter/Idle In Teleop", idleInTeleop);
 
         SmartDashboard.putData("Shooter/Profile Selector", profileChooser);
         setActiveProfile(ShooterConstants.DEFAULT_PROFILE_NAME);
-        SmartDashboard.putNumber("Shooter/Spinup Wait (s)", ShooterConstants.SPINUP_WAIT_SECONDS);
     }
 
     @Override
     public void periodic() {
-        String selectedProfileName = profileChooser.getSelected();
+        long periodicStart = RobotController.getFPGATime();
+        updateInputs();
+
+        Map<String, ShooterProfile> reloadedProfiles = profileLoader.pollUpdate();
+        if (reloadedProfiles != null) {
+            swapProfiles(reloadedProfiles);
+        }
+
+        String selectedProfileName = getSelectedProfileName();
         if (selectedProfileName != null && !selectedProfileName.equals(lastSelectedProfileName)) {
             setActiveProfile(selectedProfileName);
         }
 
-        double waitTime = SmartDashboard.getNumber("Shooter/Spinup Wait (s)", ShooterConstants.SPINUP_WAIT_SECONDS);
+        if (dashboardInputs.spinUpModeOrdinal >= 0) {
+            spinUpMode = SPIN_UP_MODES[dashboardInputs.spinUpModeOrdinal];
+        }
+
+        int controlModeIndex = dashboardInputs.controlModeIndex;
+        if (controlModeIndex >= 0 && controlModeIndex != lastControlModeIndex) {
+            lastControlModeIndex = controlModeIndex;
+            controlOverride = controlModeIndex == 0 ? null : CONTROL_MODES[controlModeIndex - 1];
+            updateControlMode();
+        }
 
-        if (isSpinningUp) {
-            double elapsed = Timer.getFPGATimestamp() - spinupStartTime;
-            if (elapsed >= waitTime && atTargetVelocity()) {
-                isSpinningUp = false;
+        if (timingSpinUp) {
+            spinUpPeakCurrentAmps = Math.max(spinUpPeakCurrentAmps, inputs.supplyCurrentAmps);
+            if (atTargetVelocity()) {
+                lastTimeToReadySeconds = inputs.timestampSeconds - spinupStartTime;
+                lastSpinUpPeakCurrentAmps = spinUpPeakCurrentAmps;
+                timingSpinUp = false;
             }
         }
 
-        double elapsed = isSpinningUp ? (Timer.getFPGATimestamp() - spinupStartTime) : 0.0;
+        trackingThresholdRPM = dashboardInputs.trackingThresholdRPM;
+
+        if (targetWheelRPM != 0.0) {
+            readiness.addSample(inputs.timestampSeconds,
+                targetWheelRPM - getWheelRPM(), getWheelAccelerationRPMPerSec());
+        }
+        if (isSpinningUp && readiness.isReady()) {
+            isSpinningUp = false;
+        }
+
+        if (shotDetector.update(inputs.timestampSeconds, targetWheelRPM, getWheelRPM(),
+                inputs.supplyCurrentAmps, shotCommanded && !isSpinningUp)) {
+            gamePieceStaged = false;
+            learningShotDrop = true;
+            lastShotDistanceMeters = tableShotDistanceMeters;
+            if (activeProfile != null) {
+                lastShotProfileName = activeProfile.getName();
+            }
+        }
+        if (learningShotDrop && !shotDetector.isMeasuringDip()) {
+            burstModel.recordShot(shotDetector.getLastShotPreShotRPM(), shotDetector.getLastShotDropRPM());
+            learningShotDrop = false;
+        }
+
+        idleInAuto = dashboardInputs.idleInAuto;
+        idleInTeleop = dashboardInputs.idleInTeleop;
+        updateIdleCutoffs();
+        if (idleRequested) {
+            updateIdle();
+        }
+
+        double elapsed = isSpinningUp ? (inputs.timestampSeconds - spinupStartTime) : 0.0;
+        double predictedTimeToReady = readiness.getPredictedTimeToReady();
 
         SmartDashboard.putNumber("Shooter/Target Wheel RPM",targetWheelRPM);
         SmartDashboard.putNumber("Shooter/Target Motor RPM",targetWheelRPM * ShooterConstants.GEAR_RATIO);
@@ -95,42 +266,303 @@ public class ShooterSubsystem extends SubsystemBase {
         SmartDashboard.putBoolean("Shooter/At Target",atTargetVelocity());
         SmartDashboard.putBoolean("Shooter/Is Spinning Up",isSpinningUp);
         SmartDashboard.putNumber("Shooter/Spinup Elapsed (s)",elapsed);
-        SmartDashboard.putNumber("Shooter/Spinup Remaining (s)",
-            isSpinningUp ? Math.max(0, waitTime - elapsed) : 0.0);
+        SmartDashboard.putNumber("Shooter/Predicted Time To Ready (s)",
+            isSpinningUp && !Double.isNaN(predictedTimeToReady) ? predictedTimeToReady : -1.0);
         SmartDashboard.putBoolean("Shooter/Motor Configured",motorConfigured);
+        SmartDashboard.putString("Shooter/Active Control Mode",controlMode.name());
+        SmartDashboard.putBoolean("Shooter/Tracking",tracking);
+        SmartDashboard.putBoolean("Shooter/Idling",idling);
+        SmartDashboard.putBoolean("Shooter/Game Piece Staged",gamePieceStaged);
+        SmartDashboard.putBoolean("Shooter/Idle Battery Cutoff",batteryLow);
+        SmartDashboard.putBoolean("Shooter/Idle Temp Cutoff",overTemperature);
+        if (tracking) {
+            SmartDashboard.putNumber("Shooter/Last Distance (m)",trackedDistanceMeters);
+            SmartDashboard.putNumber("Shooter/Last Commanded RPM",targetWheelRPM);
+            SmartDashboard.putBoolean("Shooter/Distance In Range",trackedDistanceInRange);
+        }
+        SmartDashboard.putNumber("Shooter/Tracking Setpoints Sent",trackingSetpointsSent);
+        SmartDashboard.putNumber("Shooter/Tracking Updates Suppressed",trackingUpdatesSuppressed);
+        SmartDashboard.putNumber("Shooter/Shot Count",shotDetector.getShotCount());
+        SmartDashboard.putNumber("Shooter/Last Shot Time (s)",shotDetector.getLastShotTimestamp());
+        SmartDashboard.putNumber("Shooter/Last Shot Drop (RPM)",shotDetector.getLastShotDropRPM());
+        SmartDashboard.putNumber("Shooter/Last Shot Recovery (s)",shotDetector.getLastRecoverySeconds());
+        SmartDashboard.putNumber("Shooter/Last Time To Ready (s)",lastTimeToReadySeconds);
+        SmartDashboard.putNumber("Shooter/Flywheel Energy (J)",burstModel.kineticEnergyJoules(getWheelRPM()));
+        SmartDashboard.putNumber("Shooter/Burst Energy Per Ball (J)",burstModel.getEnergyPerBallJoules());
+        SmartDashboard.putNumber("Shooter/Burst Boost (RPM)",boostRPM);
+        SmartDashboard.putNumber("Shooter/Last Spin-Up Peak Current (A)",lastSpinUpPeakCurrentAmps);
+        SmartDashboard.putNumber("Shooter/Profile Reloads",profileLoader.getLoadCount());
+        SmartDashboard.putBoolean("Shooter/Motor Connected",inputs.connected);
+        SmartDashboard.putNumber("Shooter/Acceleration (RPM per s)",getWheelAccelerationRPMPerSec());
+        SmartDashboard.putNumber("Shooter/Supply Current (A)",inputs.supplyCurrentAmps);
+        SmartDashboard.putNumber("Shooter/Closed Loop Error (RPM)",inputs.closedLoopErrorRPS * 60.0);
+        SmartDashboard.putNumber("Shooter/Motor Temp (C)",inputs.temperatureCelsius);
+        SmartDashboard.putNumber("Shooter/Sample Timestamp (s)",inputs.timestampSeconds);
 
         if (activeProfile != null) {
             SmartDashboard.putString("Shooter/Active Profile",activeProfile.getName());
             SmartDashboard.putNumber("Shooter/Profile Angle (deg)",activeProfile.getAngleDegrees());
             SmartDashboard.putNumber("Shooter/Profile Min Dist (m)",activeProfile.getMinSafeDistance());
             SmartDashboard.putNumber("Shooter/Profile Max Dist (m)",activeProfile.getMaxSafeDistance());
+            SmartDashboard.putNumber("Shooter/Profile Slip Factor",activeProfile.getSlipFactor());
         }
+        periodicProbe.record(periodicStart);
+    }
+
+    /** Current the flywheel model is drawing, for the simulated battery; 0 on a real robot. */
+    public double getSimulatedCurrentDrawAmps() {
+        return io.getSimulatedCurrentDrawAmps();
     }
 
     public void setVelocityForDistance(double distanceMeters) {
         if (activeProfile == null) {
-            DriverStation.reportError("No active shooter profile", false);
+            noProfileAlert.raise();
             return;
         }
         double wheelRPM = getRPMForDistance(distanceMeters);
         setVelocityRPM(wheelRPM);
+        tableShotDistanceMeters = distanceMeters;
         SmartDashboard.putNumber("Shooter/Last Distance (m)",distanceMeters);
         SmartDashboard.putNumber("Shooter/Last Commanded RPM",wheelRPM);
     }
 
+    /**
+     * Continuous-aim variant of {@link #setVelocityForDistance} for commands that call it every
+     * loop. A new control request is only sent when the target moves by more than the tracking
+     * threshold. Once moving, it follows down to a third of the threshold before settling again.
+     * Corrections smaller than the velocity tolerance keep the current readiness state; bigger
+     * jumps restart spin-up like a fresh setpoint.
+     */
+    public void trackDistance(double distanceMeters) {
+        if (activeProfile == null) {
+            return;
+        }
+        trackedDistanceMeters = distanceMeters;
+        trackedDistanceInRange = activeProfile.isDistanceInRange(distanceMeters);
+        distanceBelowMinAlert.set(distanceMeters < activeProfile.getMinSafeDistance());
+        distanceAboveMaxAlert.set(distanceMeters > activeProfile.getMaxSafeDistance());
+        double wheelRPM = activeProfile.getRPMForDistance(MathUtil.clamp(
+            distanceMeters, activeProfile.getMinSafeDistance(), activeProfile.getMaxSafeDistance()));
+
+        if (!tracking || targetWheelRPM == 0.0) {
+            setVelocityRPM(wheelRPM);
+            tableShotDistanceMeters = distanceMeters;
+            tracking = true;
+            trackingSetpointsSent++;
+            return;
+        }
+
+        double change = Math.abs(wheelRPM - targetWheelRPM);
+        double threshold = trackingAdjusting ? trackingThresholdRPM / 3.0 : trackingThresholdRPM;
+        if (change <= threshold) {
+            trackingAdjusting = false;
+            trackingUpdatesSuppressed++;
+            return;
+        }
+
+        trackingAdjusting = true;
+        trackingSetpointsSent++;
+        if (change >= ShooterConstants.VELOCITY_TOLERANCE_RPM) {
+            setVelocityRPM(wheelRPM);
+            tableShotDistanceMeters = distanceMeters;
+            tracking = true;
+        } else {
+            targetWheelRPM = wheelRPM;
+            sendSetpoint();
+            tableShotDistanceMeters = distanceMeters;
+        }
+    }
+
+    public boolean isTracking() {
+        return tracking;
+    }
+
     public void setVelocityRPM(double wheelRPM) {
+        tracking = false;
+        trackingAdjusting = false;
+        shotCommanded = true;
+        idling = false;
+        idleRequested = false;
         targetWheelRPM = wheelRPM;
-        double motorRPS = (wheelRPM * ShooterConstants.GEAR_RATIO) / 60.0;
-        motor.setControl(velocityRequest.withVelocity(motorRPS));
-        spinupStartTime = Timer.getFPGATimestamp();
+        boostRPM = 0.0;
+        tableShotDistanceMeters = Double.NaN;
+        sendSetpoint();
+
+        spinupStartTime = inputs.timestampSeconds;
         isSpinningUp = true;
+        readiness.reset();
+        shotDetector.disarm();
+        timingSpinUp = true;
+        spinUpPeakCurrentAmps = 0.0;
+    }
+
+    private void sendSetpoint() {
+        double accelerationRPS = activeProfile != null
+            ? wheelRPMToMotorRPS(activeProfile.getSpinUpAccelerationRPMPerSec())
+            : 0.0;
+        io.setControl(controlStrategies.get(controlMode).velocity(
+            wheelRPMToMotorRPS(targetWheelRPM + boostRPM), accelerationRPS, spinUpMode == ShooterSpinUpMode.MOTION_MAGIC));
+    }
+
+    /** Resolves dashboard override vs profile default, re-sending a live setpoint on the new backend. */
+    private void updateControlMode() {
+        ShooterControlMode resolved = controlOverride != null ? controlOverride
+            : activeProfile != null ? activeProfile.getControlMode()
+            : ShooterControlMode.VELOCITY_VOLTAGE;
+        if (resolved == controlMode) {
+            return;
+        }
+        controlMode = resolved;
+        if (targetWheelRPM != 0.0) {
+            sendSetpoint();
+        }
+    }
+
+    public int getShotCount() {
+        return shotDetector.getShotCount();
+    }
+
+    public ShotDetector getShotDetector() {
+        return shotDetector;
+    }
+
+    public BurstEnergyModel getBurstModel() {
+        return burstModel;
+    }
+
+    /**
+     * Overdrives the wheel by the energy model's boost just before a ball makes contact, sized
+     * from how far the wheel still is below the target. The target, readiness and shot detection
+     * keep using the unboosted speed.
+     */
+    public void boostForContact() {
+        if (targetWheelRPM <= 0.0) {
+            return;
+        }
+        boostRPM = burstModel.getBoostRPM(targetWheelRPM, getWheelRPM());
+        sendSetpoint();
+    }
+
+    /** Drops the contact boost, e.g. once the ball has left. */
+    public void endBoost() {
+        if (boostRPM != 0.0) {
+            boostRPM = 0.0;
+            sendSetpoint();
+        }
+    }
+
+    /** Close enough to the target to feed the next ball of a burst without waiting for full recovery. */
+    public boolean isReadyForBurstShot() {
+        return targetWheelRPM > 0.0
+            && getWheelRPM() > targetWheelRPM - ShooterConstants.BURST_READY_TOLERANCE_RPM;
+    }
+
+    public ShooterControlMode getControlMode() {
+        return controlMode;
+    }
+
+    public ShooterSpinUpMode getSpinUpMode() {
+        return spinUpMode;
     }
 
+    /** Seconds from the last setpoint change until the wheel first reached tolerance. */
+    public double getLastTimeToReadySeconds() {
+        return lastTimeToReadySeconds;
+    }
+
+    /** Ends the current shot request and coasts the wheel down. */
     public void stop() {
-        motor.stopMotor();
-        targetWheelRPM  = 0.0;
+        clearShotRequest();
+        idleRequested = false;
+        idling = false;
+        io.stop();
+        targetWheelRPM = 0.0;
+    }
+
+    /**
+     * Ends the current shot request but lets the wheel hold warm idle for as long as idle is
+     * allowed, otherwise coasts it down like {@link #stop()}. The request lasts until the next
+     * setpoint, stop, or disable.
+     */
+    public void releaseToIdle() {
+        clearShotRequest();
+        idleRequested = true;
+        updateIdle();
+        if (!idling) {
+            io.stop();
+            targetWheelRPM = 0.0;
+        }
+    }
+
+    /** Tells the shooter a ball is waiting at the feed, which allows warm idle in any phase. */
+    public void setGamePieceStaged(boolean staged) {
+        gamePieceStaged = staged;
+    }
+
+    public boolean isGamePieceStaged() {
+        return gamePieceStaged;
+    }
+
+    public boolean isIdling() {
+        return idling;
+    }
+
+    private void clearShotRequest() {
+        boostRPM = 0.0;
+        tracking = false;
+        trackingAdjusting = false;
+        shotCommanded = false;
         isSpinningUp = false;
         spinupStartTime = -1.0;
+        readiness.reset();
+        shotDetector.disarm();
+        timingSpinUp = false;
+    }
+
+    /**
+     * Holds the active profile's default RPM while idle is allowed, so the next shot starts from a
+     * spinning wheel. Follows profile switches and lets go as soon as a cutoff trips.
+     */
+    private void updateIdle() {
+        if (!DriverStation.isEnabled()) {
+            idleRequested = false; // idle never carries over into the next enable
+        }
+        if (!isIdleAllowed()) {
+            if (idling) {
+                idling = false;
+                targetWheelRPM = 0.0;
+                readiness.reset();
+                io.stop();
+            }
+            return;
+        }
+        double idleRPM = activeProfile.getDefaultRPM();
+        if (!idling || idleRPM != targetWheelRPM) {
+            idling = true;
+            targetWheelRPM = idleRPM;
+            readiness.reset();
+            sendSetpoint();
+        }
+    }
+
+    private boolean isIdleAllowed() {
+        if (!idleRequested || activeProfile == null || !DriverStation.isEnabled()
+                || batteryLow || overTemperature) {
+            return false;
+        }
+        return gamePieceStaged
+            || (DriverStation.isAutonomous() ? idleInAuto : idleInTeleop);
+    }
+
+    /** Battery sag is debounced so a brief dip under load doesn't drop idle; both have hysteresis. */
+    private void updateIdleCutoffs() {
+        double batteryVolts = inputs.supplyVoltageVolts;
+        batteryLow = batteryLowDebouncer.calculate(batteryLow
+            ? batteryVolts < ShooterConstants.IDLE_BATTERY_RESUME_VOLTS
+            : batteryVolts < ShooterConstants.IDLE_BATTERY_CUTOFF_VOLTS);
+        overTemperature = overTemperature
+            ? inputs.temperatureCelsius > ShooterConstants.IDLE_TEMP_RESUME_CELSIUS
+            : inputs.temperatureCelsius > ShooterConstants.IDLE_MAX_TEMP_CELSIUS;
     }
 
     public double getWheelRPM() {
@@ -138,15 +570,47 @@ public class ShooterSubsystem extends SubsystemBase {
     }
 
     public double getMotorRPM() {
-        return motor.getVelocity().getValueAsDouble() * 60.0;
+        return inputs.motorVelocityRPS * 60.0;
+    }
+
+    public double getWheelAccelerationRPMPerSec() {
+        return inputs.motorAccelerationRPSPerSec * 60.0 / ShooterConstants.GEAR_RATIO;
+    }
+
+    public double getSupplyCurrentAmps() {
+        return inputs.supplyCurrentAmps;
+    }
+
+    public double getMotorTemperatureCelsius() {
+        return inputs.temperatureCelsius;
+    }
+
+    /** The snapshot every getter reads from; refreshed once at the top of {@link #periodic()}. */
+    public ShooterInputs getInputs() {
+        return inputs;
     }
 
     public boolean atTargetVelocity() {
         if (targetWheelRPM == 0.0) return false;
         return Math.abs(getWheelRPM() - targetWheelRPM) < ShooterConstants.VELOCITY_TOLERANCE_RPM;
     }
+    /** Within tolerance and predicted to stay there; see {@link ShooterReadinessEstimator}. */
     public boolean isReadyToShoot() {
-        return atTargetVelocity() && !isSpinningUp;
+        return atTargetVelocity() && readiness.isReady();
+    }
+
+    /** Completes with whether the TalonFX configuration was applied; see {@link #isReady()}. */
+    public CompletableFuture<Boolean> getReadyFuture() {
+        return configuredFuture;
+    }
+
+    /** True once startup configuration has finished, whether or not it succeeded. */
+    public boolean isReady() {
+        return configuredFuture.isDone();
+    }
+
+    public boolean isMotorConfigured() {
+        return motorConfigured;
     }
 
     public boolean isDistanceInRange(double distanceMeters) {
@@ -163,37 +627,157 @@ public class ShooterSubsystem extends SubsystemBase {
     }
 
     public void setActiveProfile(String profileName) {
-        if (!availableProfiles.containsKey(profileName)) {
-            DriverStation.reportError("Profile '" + profileName + "' not found. Using default.", false);
+        boolean found = availableProfiles.containsKey(profileName);
+        profileNotFoundAlert.set(!found);
+        if (!found) {
             profileName = ShooterConstants.DEFAULT_PROFILE_NAME;
         }
         activeProfile           = availableProfiles.get(profileName);
         lastSelectedProfileName = profileName;
-        DriverStation.reportWarning(
-            String.format("Shooter profile: %s (%.1f deg, %.1f-%.1fm)",
-                activeProfile.getName(), activeProfile.getAngleDegrees(),
-                activeProfile.getMinSafeDistance(), activeProfile.getMaxSafeDistance()),
-            false);
+        noProfileAlert.clear();
+        applyProfileMotionLimits(activeProfile);
+        updateControlMode();
+        if (activeProfile != announcedProfile) {
+            announcedProfile = activeProfile;
+            activeProfileAlert.setText("Shooter profile: " + activeProfile);
+            activeProfileAlert.raise();
+        }
+    }
+
+    /** Only pushes new Motion Magic limits to the IO when the profile's acceleration or jerk changes. */
+    private void applyProfileMotionLimits(ShooterProfile profile) {
+        double acceleration = profile.getSpinUpAccelerationRPMPerSec();
+        double jerk = profile.getSpinUpJerkRPMPerSec2();
+        if (acceleration == appliedAccelerationRPMPerSec && jerk == appliedJerkRPMPerSec2) {
+            return;
+        }
+        appliedAccelerationRPMPerSec = acceleration;
+        appliedJerkRPMPerSec2 = jerk;
+
+        io.setMotionLimits(wheelRPMToMotorRPS(acceleration), wheelRPMToMotorRPS(jerk));
+    }
+
+    private static double wheelRPMToMotorRPS(double wheelRPM) {
+        return wheelRPM * ShooterConstants.GEAR_RATIO / 60.0;
+    }
+
+    /**
+     * Learning mode verdict on the last detected shot. HIGH or LOW steps the offset on the active
+     * profile's tuned point nearest that shot's distance, swaps the corrected profile in and saves
+     * the offsets in the background. Shots at a raw RPM, or from another profile, have no table
+     * point and are ignored.
+     */
+    public void recordShotFeedback(ShotFeedback feedback) {
+        if (!dashboardInputs.learningEnabled) {
+            return;
+        }
+        boolean traceable = !Double.isNaN(lastShotDistanceMeters)
+            && activeProfile != null && activeProfile.getName().equals(lastShotProfileName);
+        feedbackIgnoredAlert.set(!traceable);
+        if (!traceable) {
+            return;
+        }
+
+        feedbackCounts[feedback.ordinal()]++;
+        SmartDashboard.putNumber("Shooter/Learn/" + feedback.name(), feedbackCounts[feedback.ordinal()]);
+        SmartDashboard.putNumber("Shooter/Learn/Last Shot Distance (m)", lastShotDistanceMeters);
+
+        ShooterProfile learned = tableLearner.apply(activeProfile.getName(), lastShotDistanceMeters, feedback);
+        lastShotDistanceMeters = Double.NaN; // one verdict per shot
+        if (learned == null) {
+            return;
+        }
+
+        Map<String, ShooterProfile> updated = new HashMap<>(availableProfiles);
+        updated.put(learned.getName(), learned);
+        availableProfiles = Map.copyOf(updated);
+        setActiveProfile(learned.getName());
+        offsetsWriter.save(tableLearner.getOffsets());
+    }
+
+    /** Swaps in a freshly loaded base profile set, learned offsets on top; only ever called from the main loop. */
+    private void swapProfiles(Map<String, ShooterProfile> baseProfiles) {
+        Map<String, ShooterProfile> profiles = tableLearner.applyTo(baseProfiles);
+        availableProfiles = profiles;
+        for (Map.Entry<String, ShooterProfile> entry : profiles.entrySet()) {
+            if (chooserProfileNames.add(entry.getKey())) {
+                profileChooser.addOption(entry.getValue().getDisplayName(), entry.getKey());
+            }
+        }
+        setActiveProfile(lastSelectedProfileName);
+    }
+
+    private void updateInputs() {
+        io.updateInputs(inputs);
+        inputsLogger.log();
+
+        if (dashboardReplay == null) {
+            readDashboard();
+        } else if (dashboardReplay.next(dashboardBuffer)) {
+            dashboardInputs.fromLog(dashboardBuffer);
+        }
+        dashboardLogger.log();
+    }
+
+    private void readDashboard() {
+        String profileName = profileChooser.getSelected();
+        dashboardInputs.profileSelected = profileName != null;
+        dashboardInputs.profileNameHash = profileName != null ? profileName.hashCode() : 0;
+
+        ShooterSpinUpMode spinUp = spinUpModeChooser.getSelected();
+        dashboardInputs.spinUpModeOrdinal = spinUp != null ? spinUp.ordinal() : -1;
+
+        String control = controlModeChooser.getSelected();
+        dashboardInputs.controlModeIndex = control == null ? -1
+            : PROFILE_CONTROL_MODE.equals(control) ? 0
+            : ShooterControlMode.valueOf(control).ordinal() + 1;
+
+        dashboardInputs.trackingThresholdRPM = SmartDashboard.getNumber(
+            "Shooter/Tracking Threshold (RPM)", ShooterConstants.TRACKING_THRESHOLD_RPM);
+        dashboardInputs.idleInAuto = SmartDashboard.getBoolean("Shooter/Idle In Auto", ShooterConstants.IDLE_IN_AUTO);
+        dashboardInputs.idleInTeleop = SmartDashboard.getBoolean("Shooter/Idle In Teleop", ShooterConstants.IDLE_IN_TELEOP);
+        dashboardInputs.learningEnabled = SmartDashboard.getBoolean("Shooter/Learning Enabled", false);
+        dashboardInputs.testDistanceMeters = SmartDashboard.getNumber("Test Distance (m)", 2.0);
+    }
+
+    /** The chooser's profile, matched back from its logged hash; null when none is selected or known. */
+    private String getSelectedProfileName() {
+        if (!dashboardInputs.profileSelected) {
+            return null;
+        }
+        int hash = dashboardInputs.profileNameHash;
+        if (lastSelectedProfileName.hashCode() == hash) {
+            return lastSelectedProfileName;
+        }
+        for (String name : chooserProfileNames) {
+            if (name.hashCode() == hash) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    /** The "Test Distance (m)" dashboard value as of this loop, for the test-distance bindings. */
+    public double getTestDistanceMeters() {
+        return dashboardInputs.testDistanceMeters;
     }
 
-    private double getRPMForDistance(double distance) {
+    public double getRPMForDistance(double distance) {
         if (activeProfile == null) {
-            DriverStation.reportError("No active profile - using default RPM", false);
+            noProfileAlert.raise();
             return 3500.0;
         }
-        if (distance < activeProfile.getMinSafeDistance()) {
-            DriverStation.reportWarning(String.format(
-                "Distance %.2fm below min %.2fm - clamping", distance, activeProfile.getMinSafeDistance()), false);
-            SmartDashboard.putBoolean("Shooter/Distance In Range", false);
+        boolean belowMin = distance < activeProfile.getMinSafeDistance();
+        boolean aboveMax = distance > activeProfile.getMaxSafeDistance();
+        distanceBelowMinAlert.set(belowMin);
+        distanceAboveMaxAlert.set(aboveMax);
+        SmartDashboard.putBoolean("Shooter/Distance In Range", !belowMin && !aboveMax);
+        if (belowMin) {
             return activeProfile.getRPMForDistance(activeProfile.getMinSafeDistance());
         }
-        if (distance > activeProfile.getMaxSafeDistance()) {
-            DriverStation.reportWarning(String.format(
-                "Distance %.2fm exceeds max %.2fm - clamping", distance, activeProfile.getMaxSafeDistance()), false);
-            SmartDashboard.putBoolean("Shooter/Distance In Range", false);
+        if (aboveMax) {
             return activeProfile.getRPMForDistance(activeProfile.getMaxSafeDistance());
         }
-        SmartDashboard.putBoolean("Shooter/Distance In Range", true);
         return activeProfile.getRPMForDistance(distance);
     }
 }
\ No newline at end of file
@@ -0,0 +1,110 @@
+package frc.robot.subsystems;
+
+import edu.wpi.first.math.MathUtil;
+import frc.robot.constants.ShooterConstants;
+import frc.robot.util.InterpolatingTable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Turns shot verdicts into small RPM offsets on a profile's tuned distance to RPM points. Each
+ * HIGH or LOW moves the offset of the tuned point nearest the shot's distance by one step, and no
+ * offset ever exceeds {@link ShooterConstants#LEARN_MAX_OFFSET_RPM}. Offsets are kept per profile
+ * and tuned distance, apart from the tables, and applied on top of whichever base profiles are
+ * loaded, so the bound always holds against the current base and hand edits to the base still
+ * take effect. Offsets for distances the base no longer has are kept but not applied.
+ */
+public class ShooterTableLearner {
+    private final Map<String, Map<Double, Double>> offsets = new HashMap<>();
+    private Map<String, ShooterProfile> baseProfiles = Map.of();
+
+    /** @param savedOffsets RPM offsets by profile name and tuned distance, e.g. from an earlier run */
+    public ShooterTableLearner(Map<String, Map<Double, Double>> savedOffsets) {
+        for (Map.Entry<String, Map<Double, Double>> entry : savedOffsets.entrySet()) {
+            offsets.put(entry.getKey(), new HashMap<>(entry.getValue()));
+        }
+    }
+
+    /** Takes a freshly loaded base profile set and returns it with the learned offsets on top. */
+    public Map<String, ShooterProfile> applyTo(Map<String, ShooterProfile> base) {
+        baseProfiles = base;
+        Map<String, ShooterProfile> learned = new HashMap<>(base);
+        for (Map.Entry<String, Map<Double, Double>> entry : offsets.entrySet()) {
+            ShooterProfile profile = base.get(entry.getKey());
+            if (profile != null && !entry.getValue().isEmpty()) {
+                learned.put(profile.getName(), withOffsets(profile, entry.getValue()));
+            }
+        }
+        return Map.copyOf(learned);
+    }
+
+    /**
+     * Steps the offset of the point nearest {@code distanceMeters} in the base profile
+     * {@code profileName}. Returns the corrected profile, or null when the verdict changes nothing.
+     */
+    public ShooterProfile apply(String profileName, double distanceMeters, ShotFeedback feedback) {
+        ShooterProfile base = baseProfiles.get(profileName);
+        if (feedback == ShotFeedback.GOOD || base == null) {
+            return null;
+        }
+        InterpolatingTable table = base.getDistanceToRPMTable();
+        double distance = table.getKey(nearestIndex(table, distanceMeters));
+
+        Map<Double, Double> profileOffsets = offsets.computeIfAbsent(profileName, name -> new HashMap<>());
+        double current = clampOffset(profileOffsets.getOrDefault(distance, 0.0));
+        double step = feedback == ShotFeedback.HIGH
+            ? -ShooterConstants.LEARN_STEP_RPM
+            : ShooterConstants.LEARN_STEP_RPM;
+        double next = clampOffset(current + step);
+        if (next == current) {
+            return null;
+        }
+        if (next == 0.0) {
+            profileOffsets.remove(distance);
+        } else {
+            profileOffsets.put(distance, next);
+        }
+        return withOffsets(base, profileOffsets);
+    }
+
+    /** Every learned offset, by profile name and tuned distance; an immutable snapshot for saving. */
+    public Map<String, Map<Double, Double>> getOffsets() {
+        Map<String, Map<Double, Double>> snapshot = new HashMap<>();
+        for (Map.Entry<String, Map<Double, Double>> entry : offsets.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                snapshot.put(entry.getKey(), Map.copyOf(entry.getValue()));
+            }
+        }
+        return Map.copyOf(snapshot);
+    }
+
+    /** Index of the tuned point closest to {@code distanceMeters}. */
+    public static int nearestIndex(InterpolatingTable table, double distanceMeters) {
+        int nearest = 0;
+        for (int i = 1; i < table.size(); i++) {
+            if (Math.abs(table.getKey(i) - distanceMeters) < Math.abs(table.getKey(nearest) - distanceMeters)) {
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+
+    private static ShooterProfile withOffsets(ShooterProfile base, Map<Double, Double> profileOffsets) {
+        InterpolatingTable table = base.getDistanceToRPMTable();
+        double[] values = table.copyValues();
+        for (int i = 0; i < values.length; i++) {
+            Double offset = profileOffsets.get(table.getKey(i));
+            if (offset != null) {
+                values[i] += clampOffset(offset);
+            }
+        }
+        return base.withDistanceToRPM(new InterpolatingTable(table.copyKeys(), values));
+    }
+
+    /** Also bounds offsets read back from a hand-edited file. */
+    private static double clampOffset(double offsetRPM) {
+        return MathUtil.clamp(offsetRPM,
+            -ShooterConstants.LEARN_MAX_OFFSET_RPM, ShooterConstants.LEARN_MAX_OFFSET_RPM);
+    }
+}
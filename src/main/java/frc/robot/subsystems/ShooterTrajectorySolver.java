@@ -0,0 +1,130 @@
+package frc.robot.subsystems;
+
+import frc.robot.constants.ShooterConstants;
+import frc.robot.util.InterpolatingTable;
+
+import java.util.Arrays;
+
+/**
+ * Drag-free projectile model for a fixed-angle flywheel shooter. Distance, launch angle and height
+ * delta give the exit velocity; a slip factor (ball speed / wheel surface speed) turns that into
+ * wheel RPM.
+ *
+ * <p>The model ignores drag and spin, so it does not follow real tuned tables closely: it is only
+ * used to extend a profile's tuned table to distances the table doesn't cover. A profile whose
+ * tuned points already span its whole safe range never reads the solved curve.
+ */
+public final class ShooterTrajectorySolver {
+    private ShooterTrajectorySolver() {}
+
+    /**
+     * Exit velocity (m/s) that lands the ball {@code heightDeltaMeters} above the launch point
+     * at {@code distanceMeters}, or NaN when the angle is too shallow to get there at all.
+     */
+    public static double requiredExitVelocity(
+        double distanceMeters, double angleDegrees, double heightDeltaMeters
+    ) {
+        double angle = Math.toRadians(angleDegrees);
+        double cos = Math.cos(angle);
+        double rise = distanceMeters * Math.tan(angle) - heightDeltaMeters;
+        if (distanceMeters <= 0.0 || cos <= 0.0 || rise <= 0.0) {
+            return Double.NaN;
+        }
+        return Math.sqrt(ShooterConstants.GRAVITY_MPS2 * distanceMeters * distanceMeters
+            / (2.0 * cos * cos * rise));
+    }
+
+    public static double exitVelocityToWheelRPM(double exitVelocityMps, double slipFactor) {
+        double surfaceSpeedMps = exitVelocityMps / slipFactor;
+        return surfaceSpeedMps * 60.0 / (Math.PI * ShooterConstants.WHEEL_DIAMETER_METERS);
+    }
+
+    public static double wheelRPMToExitVelocity(double wheelRPM, double slipFactor) {
+        return wheelRPM * Math.PI * ShooterConstants.WHEEL_DIAMETER_METERS / 60.0 * slipFactor;
+    }
+
+    /**
+     * Slip factor from the median RPM per m/s of exit velocity over the tuned points. The median
+     * keeps a point where the model is near-singular, a shot that barely clears the target height
+     * and so "needs" a huge exit velocity, from dragging the fit the way a least-squares fit would.
+     * Falls back to {@link ShooterConstants#DEFAULT_SLIP_FACTOR} when no tuned point is physically
+     * reachable.
+     */
+    public static double fitSlipFactor(
+        InterpolatingTable tuned, double angleDegrees, double heightDeltaMeters
+    ) {
+        double[] rpmPerMps = new double[tuned.size()];
+        int count = 0;
+        for (int i = 0; i < tuned.size(); i++) {
+            double velocity = requiredExitVelocity(tuned.getKey(i), angleDegrees, heightDeltaMeters);
+            if (Double.isNaN(velocity) || tuned.getValue(i) <= 0.0) {
+                continue;
+            }
+            rpmPerMps[count++] = tuned.getValue(i) / velocity;
+        }
+        if (count == 0) {
+            return ShooterConstants.DEFAULT_SLIP_FACTOR;
+        }
+        Arrays.sort(rpmPerMps, 0, count);
+        double median = count % 2 == 1
+            ? rpmPerMps[count / 2]
+            : 0.5 * (rpmPerMps[count / 2 - 1] + rpmPerMps[count / 2]);
+        // rpm = k * v with k = 60 / (slip * pi * D)
+        return 60.0 / (median * Math.PI * ShooterConstants.WHEEL_DIAMETER_METERS);
+    }
+
+    /**
+     * Dense, evenly spaced distance to RPM table over {@code minDistance..maxDistance}. Inside the
+     * tuned span it is the tuned interpolation. Only beyond the tuned end points does the physics
+     * curve fill in, scaled so it meets the nearest end point without a step and capped at
+     * {@link ShooterConstants#MAX_SOLVED_WHEEL_RPM}; the scaling cancels the slip factor, so only
+     * the curve's shape is used there. Unreachable distances hold the nearest tuned value.
+     */
+    public static InterpolatingTable buildDenseTable(
+        InterpolatingTable tuned,
+        double angleDegrees,
+        double heightDeltaMeters,
+        double slipFactor,
+        double minDistance,
+        double maxDistance
+    ) {
+        double step = ShooterConstants.DENSE_TABLE_STEP_METERS;
+        int count = Math.max(2, (int) Math.ceil((maxDistance - minDistance) / step) + 1);
+        double spacing = (maxDistance - minDistance) / (count - 1);
+        if (!(spacing > 0.0)) {
+            return tuned;
+        }
+
+        double lowScale = edgeScale(tuned, 0, angleDegrees, heightDeltaMeters, slipFactor);
+        double highScale = edgeScale(tuned, tuned.size() - 1, angleDegrees, heightDeltaMeters, slipFactor);
+
+        double[] distances = new double[count];
+        double[] rpms = new double[count];
+        for (int i = 0; i < count; i++) {
+            double distance = minDistance + spacing * i;
+            distances[i] = distance;
+
+            if (distance >= tuned.getMinKey() && distance <= tuned.getMaxKey()) {
+                rpms[i] = tuned.get(distance);
+                continue;
+            }
+            double velocity = requiredExitVelocity(distance, angleDegrees, heightDeltaMeters);
+            double scale = distance < tuned.getMinKey() ? lowScale : highScale;
+            rpms[i] = Double.isNaN(velocity) || Double.isNaN(scale)
+                ? tuned.get(distance)
+                : Math.min(exitVelocityToWheelRPM(velocity, slipFactor) * scale,
+                           ShooterConstants.MAX_SOLVED_WHEEL_RPM);
+        }
+        return new InterpolatingTable(distances, rpms);
+    }
+
+    private static double edgeScale(
+        InterpolatingTable tuned, int index, double angleDegrees, double heightDeltaMeters, double slipFactor
+    ) {
+        double velocity = requiredExitVelocity(tuned.getKey(index), angleDegrees, heightDeltaMeters);
+        if (Double.isNaN(velocity)) {
+            return Double.NaN;
+        }
+        return tuned.getValue(index) / exitVelocityToWheelRPM(velocity, slipFactor);
+    }
+}
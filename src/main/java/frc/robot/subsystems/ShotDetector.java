@@ -0,0 +1,143 @@
+package frc.robot.subsystems;
+
+import frc.robot.constants.ShooterConstants;
+
+/**
+ * Detects balls leaving the shooter from the flywheel signature: a sharp velocity dip below the
+ * setpoint together with a supply-current spike over the running baseline. Each detection is a
+ * timestamped shot event; the detector then times how long the wheel takes to get back inside
+ * tolerance.
+ *
+ * <p>A second ball can be detected before recovery finishes (bursts) once the wheel has climbed
+ * back up and dipped again.
+ */
+public class ShotDetector {
+    private enum State { IDLE, ARMED, IN_SHOT, RECOVERING }
+
+    private State state = State.IDLE;
+
+    private double baselineCurrentAmps = 0.0;
+    private double dipMinimumRPM = 0.0;
+    private double recoveryPeakRPM = 0.0;
+
+    private int shotCount = 0;
+    private double lastShotTimestamp = Double.NaN;
+    private double lastShotPreShotRPM = 0.0;
+    private double lastShotDropRPM = 0.0;
+    private double lastRecoverySeconds = Double.NaN;
+    private boolean recoveryTimed = false;
+
+    private double previousWheelRPM = 0.0;
+
+    /**
+     * Feeds one loop's sample.
+     *
+     * @param armed whether the wheel has been declared ready, so a dip is a shot and not spin-up
+     * @return true if a new shot was detected on this sample
+     */
+    public boolean update(
+        double timestampSeconds, double targetRPM, double wheelRPM, double supplyCurrentAmps, boolean armed
+    ) {
+        boolean detected = false;
+        double previousRPM = previousWheelRPM;
+        previousWheelRPM = wheelRPM;
+
+        if (targetRPM <= 0.0) {
+            state = State.IDLE;
+            return false;
+        }
+
+        boolean currentSpike = supplyCurrentAmps > baselineCurrentAmps + ShooterConstants.SHOT_CURRENT_RISE_AMPS;
+
+        switch (state) {
+            case IDLE:
+                if (armed) {
+                    baselineCurrentAmps = supplyCurrentAmps;
+                    state = State.ARMED;
+                }
+                break;
+
+            case ARMED:
+                if (targetRPM - wheelRPM > ShooterConstants.SHOT_DROP_RPM && currentSpike) {
+                    detected = recordShot(timestampSeconds, previousRPM, wheelRPM);
+                } else {
+                    baselineCurrentAmps += ShooterConstants.SHOT_BASELINE_ALPHA * (supplyCurrentAmps - baselineCurrentAmps);
+                }
+                break;
+
+            case IN_SHOT:
+                if (wheelRPM < dipMinimumRPM) {
+                    dipMinimumRPM = wheelRPM;
+                    lastShotDropRPM = lastShotPreShotRPM - wheelRPM;
+                } else {
+                    recoveryPeakRPM = wheelRPM;
+                    state = State.RECOVERING;
+                }
+                break;
+
+            case RECOVERING:
+                recoveryPeakRPM = Math.max(recoveryPeakRPM, wheelRPM);
+                if (recoveryPeakRPM - wheelRPM > ShooterConstants.SHOT_DROP_RPM && currentSpike) {
+                    detected = recordShot(timestampSeconds, previousRPM, wheelRPM);
+                } else if (Math.abs(targetRPM - wheelRPM) < ShooterConstants.VELOCITY_TOLERANCE_RPM) {
+                    if (!recoveryTimed) {
+                        lastRecoverySeconds = timestampSeconds - lastShotTimestamp;
+                        recoveryTimed = true;
+                    }
+                    state = State.ARMED;
+                }
+                break;
+        }
+        return detected;
+    }
+
+    /** Drops back to idle, e.g. when the setpoint changes and the wheel has to re-settle. */
+    public void disarm() {
+        state = State.IDLE;
+    }
+
+    private boolean recordShot(double timestampSeconds, double preShotRPM, double wheelRPM) {
+        shotCount++;
+        lastShotTimestamp = timestampSeconds;
+        lastShotPreShotRPM = preShotRPM;
+        lastShotDropRPM = preShotRPM - wheelRPM;
+        lastRecoverySeconds = Double.NaN;
+        recoveryTimed = false;
+        dipMinimumRPM = wheelRPM;
+        state = State.IN_SHOT;
+        return true;
+    }
+
+    public int getShotCount() {
+        return shotCount;
+    }
+
+    /** FPGA time of the most recent shot, NaN before the first one. */
+    public double getLastShotTimestamp() {
+        return lastShotTimestamp;
+    }
+
+    /** Wheel RPM on the sample just before the most recent dip. */
+    public double getLastShotPreShotRPM() {
+        return lastShotPreShotRPM;
+    }
+
+    /** Deepest drop below the pre-shot RPM seen for the most recent shot. */
+    public double getLastShotDropRPM() {
+        return lastShotDropRPM;
+    }
+
+    /** Seconds from the most recent shot back into tolerance; NaN while still recovering. */
+    public double getLastRecoverySeconds() {
+        return lastRecoverySeconds;
+    }
+
+    /** True while the dip of the most recent shot is still deepening, so its drop isn't final yet. */
+    public boolean isMeasuringDip() {
+        return state == State.IN_SHOT;
+    }
+
+    public boolean isRecovering() {
+        return state == State.IN_SHOT || state == State.RECOVERING;
+    }
+}
@@ -0,0 +1,8 @@
+package frc.robot.subsystems;
+
+/** Operator verdict on where the last shot landed, used by the RPM table learning mode. */
+public enum ShotFeedback {
+    HIGH,
+    LOW,
+    GOOD
+}
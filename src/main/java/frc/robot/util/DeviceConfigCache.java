@@ -0,0 +1,157 @@
+package frc.robot.util;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.Filesystem;
+import edu.wpi.first.wpilibj.RobotBase;
+import frc.robot.Constants.DeviceConstants;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Properties;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Remembers a fingerprint of every configuration section last written to each device, so a code
+ * restart with an unchanged configuration can skip the write (and the flash wear) entirely and a
+ * changed one only pushes the sections that differ.
+ *
+ * <p>The cache lives in the robot's operating directory and only applies on a real robot;
+ * simulated devices start from factory defaults every run, so everything is applied there.
+ */
+public final class DeviceConfigCache {
+    private static final Path CACHE_FILE =
+        Filesystem.getOperatingDirectory().toPath().resolve(DeviceConstants.CONFIG_CACHE_FILE_NAME);
+    private static final Properties CACHE = load();
+
+    private DeviceConfigCache() {}
+
+    /** One independently appliable part of a device configuration. */
+    public record Section(String name, String serializedConfig, BooleanSupplier apply) {}
+
+    /**
+     * Brings a device up to date with as few writes as possible. A device seen for the first time,
+     * or whose read-back no longer matches the cache (replaced, factory reset), gets
+     * {@code fullApply}; otherwise only sections whose fingerprint changed are applied.
+     *
+     * @param readBackMatches cheap check that the device still holds what the cache claims
+     * @return true if every section is now current on the device
+     */
+    public static boolean apply(
+        String device, BooleanSupplier fullApply, BooleanSupplier readBackMatches, Section... sections
+    ) {
+        if (isKnown(device) && !readBackMatches.getAsBoolean()) {
+            DriverStation.reportWarning(device + " config differs from cache - reapplying everything", false);
+            invalidate(device);
+        }
+
+        if (!isKnown(device)) {
+            if (!fullApply.getAsBoolean()) {
+                return false;
+            }
+            for (Section section : sections) {
+                record(device, section.name(), fingerprint(section.serializedConfig()));
+            }
+            return true;
+        }
+
+        boolean ok = true;
+        for (Section section : sections) {
+            ok &= applyIfChanged(device, section.name(), fingerprint(section.serializedConfig()), section.apply());
+        }
+        return ok;
+    }
+
+    /** True when the device has cached fingerprints at all, i.e. it has been fully configured before. */
+    public static synchronized boolean isKnown(String device) {
+        return isEnabled() && CACHE.containsKey(device + ".configured");
+    }
+
+    /**
+     * Runs {@code apply} unless the section's fingerprint matches what was last written, and
+     * records the new fingerprint when the write succeeds.
+     *
+     * @return true if the section is now current on the device (skipped or applied)
+     */
+    public static boolean applyIfChanged(
+        String device, String section, String fingerprint, BooleanSupplier apply
+    ) {
+        if (isCurrent(device, section, fingerprint)) {
+            return true;
+        }
+        if (!apply.getAsBoolean()) {
+            return false;
+        }
+        record(device, section, fingerprint);
+        return true;
+    }
+
+    public static synchronized boolean isCurrent(String device, String section, String fingerprint) {
+        return isEnabled() && fingerprint.equals(CACHE.getProperty(device + "." + section));
+    }
+
+    /** Records a section as written and marks the device as fully configured. */
+    public static synchronized void record(String device, String section, String fingerprint) {
+        if (!isEnabled()) {
+            return;
+        }
+        CACHE.setProperty(device + "." + section, fingerprint);
+        CACHE.setProperty(device + ".configured", "true");
+        save();
+    }
+
+    /** Forgets everything about a device, e.g. after its read-back no longer matches. */
+    public static synchronized void invalidate(String device) {
+        String prefix = device + ".";
+        boolean removed = CACHE.keySet().removeIf(key -> key.toString().startsWith(prefix));
+        if (removed && isEnabled()) {
+            save();
+        }
+    }
+
+    public static String fingerprint(String serializedConfig) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(serializedConfig.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 12);
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(serializedConfig.hashCode());
+        }
+    }
+
+    private static boolean isEnabled() {
+        return RobotBase.isReal();
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        if (RobotBase.isReal() && Files.exists(CACHE_FILE)) {
+            try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+                properties.load(in);
+            } catch (IOException e) {
+                DriverStation.reportWarning("Device config cache unreadable, reapplying all: " + e.getMessage(), false);
+                properties.clear();
+            }
+        }
+        return properties;
+    }
+
+    private static void save() {
+        Path temp = CACHE_FILE.resolveSibling(CACHE_FILE.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                CACHE.store(out, "Device configuration fingerprints - delete to force a full reconfigure");
+            }
+            Files.move(temp, CACHE_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            DriverStation.reportWarning("Device config cache not saved: " + e.getMessage(), false);
+        }
+    }
+}
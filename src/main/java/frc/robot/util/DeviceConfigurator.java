@@ -0,0 +1,56 @@
+package frc.robot.util;
+
+import edu.wpi.first.wpilibj.DriverStation;
+import frc.robot.Constants.DeviceConstants;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Applies device configurations on worker threads so CAN round-trips and flash writes don't block
+ * robot construction. Each device gets a future that completes with whether its configuration was
+ * actually applied.
+ */
+public final class DeviceConfigurator {
+    private static final ExecutorService EXECUTOR =
+        Executors.newFixedThreadPool(DeviceConstants.CONFIG_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "DeviceConfigurator");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private DeviceConfigurator() {}
+
+    /**
+     * Runs {@code attempt} on a worker thread until it returns true, up to
+     * {@link DeviceConstants#CONFIG_MAX_ATTEMPTS} times.
+     *
+     * @param deviceName name used in driver station messages
+     * @param attempt applies the configuration and returns whether the device accepted it
+     * @return future completing with true once applied, false when every attempt failed
+     */
+    public static CompletableFuture<Boolean> apply(String deviceName, BooleanSupplier attempt) {
+        return CompletableFuture.supplyAsync(() -> {
+            for (int i = 1; i <= DeviceConstants.CONFIG_MAX_ATTEMPTS; i++) {
+                try {
+                    if (attempt.getAsBoolean()) {
+                        return true;
+                    }
+                } catch (RuntimeException e) {
+                    DriverStation.reportWarning(deviceName + " config threw: " + e.getMessage(), false);
+                }
+                DriverStation.reportWarning(deviceName + " config attempt " + i + " failed", false);
+                try {
+                    Thread.sleep(DeviceConstants.CONFIG_RETRY_DELAY_MS * i);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            DriverStation.reportError(deviceName + " config failed - running with device defaults", false);
+            return false;
+        }, EXECUTOR);
+    }
+}
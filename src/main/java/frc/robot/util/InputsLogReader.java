@@ -0,0 +1,101 @@
+package frc.robot.util;
+
+import edu.wpi.first.util.datalog.DataLogReader;
+import edu.wpi.first.util.datalog.DataLogRecord;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexes a WPILib data log by entry name so it can be played back record by record. A replay
+ * driver sets the current loop with {@link #setLoop}; every cursor then returns what was logged
+ * in that loop, so entries logged at different rates, or not at all in some loops, stay aligned.
+ */
+public final class InputsLogReader {
+    private final Map<String, List<DataLogRecord>> recordsByName = new HashMap<>();
+    private long loopStartMicros = -1;
+    private long loopEndMicros = -1;
+
+    public InputsLogReader(Path file) throws IOException {
+        DataLogReader reader = new DataLogReader(file.toString());
+        if (!reader.isValid()) {
+            throw new IOException(file + " is not a WPILib data log");
+        }
+
+        Map<Integer, List<DataLogRecord>> recordsById = new HashMap<>();
+        for (DataLogRecord record : reader) {
+            if (record.isStart()) {
+                DataLogRecord.StartRecordData start = record.getStartData();
+                List<DataLogRecord> records = recordsByName.computeIfAbsent(start.name, name -> new ArrayList<>());
+                recordsById.put(start.entry, records);
+            } else if (!record.isControl()) {
+                List<DataLogRecord> records = recordsById.get(record.getEntry());
+                if (records != null) {
+                    records.add(record);
+                }
+            }
+        }
+    }
+
+    /** Every data record logged under {@code name}, in log order; empty if the entry never appeared. */
+    public List<DataLogRecord> records(String name) {
+        return recordsByName.getOrDefault(name, List.of());
+    }
+
+    public Cursor cursor(String name) {
+        return new Cursor(this, records(name));
+    }
+
+    /**
+     * Moves replay to the loop logged from {@code startMicros} up to {@code endMicros}, the log
+     * timestamps of its own loop marker and the next one. Until this is first called, each
+     * {@link Cursor#next} simply returns the next record.
+     */
+    public void setLoop(long startMicros, long endMicros) {
+        loopStartMicros = startMicros;
+        loopEndMicros = endMicros;
+    }
+
+    /** Steps through the double-array records of one inputs entry. */
+    public static final class Cursor {
+        private final InputsLogReader log;
+        private final List<DataLogRecord> records;
+        private int index = 0;
+
+        private Cursor(InputsLogReader log, List<DataLogRecord> records) {
+            this.log = log;
+            this.records = records;
+        }
+
+        /**
+         * Copies the next record logged in the current loop into {@code values}, skipping any left
+         * over from earlier loops; false (leaving {@code values} untouched) once the loop's records
+         * are used up.
+         */
+        public boolean next(double[] values) {
+            boolean windowed = log.loopEndMicros >= 0;
+            while (windowed && index < records.size() && records.get(index).getTimestamp() < log.loopStartMicros) {
+                index++;
+            }
+            if (index >= records.size() || (windowed && records.get(index).getTimestamp() >= log.loopEndMicros)) {
+                return false;
+            }
+            double[] logged = records.get(index++).getDoubleArray();
+            System.arraycopy(logged, 0, values, 0, Math.min(logged.length, values.length));
+            return true;
+        }
+
+    /** Log timestamp (microseconds) of the record {@link #next} would return, or -1 at the end. */
+        public long peekTimestamp() {
+            return index < records.size() ? records.get(index).getTimestamp() : -1;
+        }
+
+        public boolean hasNext() {
+            return index < records.size();
+        }
+    }
+}
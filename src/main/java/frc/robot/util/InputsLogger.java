@@ -0,0 +1,31 @@
+package frc.robot.util;
+
+import edu.wpi.first.util.datalog.DoubleArrayLogEntry;
+import edu.wpi.first.wpilibj.DataLogManager;
+
+/**
+ * Appends one inputs snapshot per loop to the robot's data log as {@code Inputs/<name>}, a double
+ * array whose layout is recorded in the entry metadata. Reuses one buffer, so logging doesn't
+ * allocate.
+ */
+public final class InputsLogger {
+    public static final String ENTRY_PREFIX = "Inputs/";
+    /** Marks the start of each robot loop; replay steps every inputs entry on these timestamps. */
+    public static final String LOOP_ENTRY = ENTRY_PREFIX + "Loop";
+
+    private final LoggableInputs inputs;
+    private final double[] buffer;
+    private final DoubleArrayLogEntry entry;
+
+    public InputsLogger(String name, LoggableInputs inputs) {
+        this.inputs = inputs;
+        this.buffer = new double[inputs.fieldNames().length];
+        this.entry = new DoubleArrayLogEntry(
+            DataLogManager.getLog(), ENTRY_PREFIX + name, String.join(",", inputs.fieldNames()));
+    }
+
+    public void log() {
+        inputs.toLog(buffer);
+        entry.append(buffer);
+    }
+}
@@ -0,0 +1,130 @@
+package frc.robot.util;
+
+import java.util.Arrays;
+
+/**
+ * Immutable key/value table with linear interpolation between breakpoints, backed by primitive
+ * arrays so lookups never box or allocate. Results match {@code InterpolatingDoubleTreeMap}:
+ * exact keys return their stored value and queries outside the table clamp to the end values. A
+ * NaN key returns the last value, as the tree map sorts NaN above every other key.
+ *
+ * <p>When the keys are evenly spaced the segment is found by direct indexing, otherwise by a
+ * branch-light binary search.
+ */
+public final class InterpolatingTable {
+    private static final double UNIFORM_TOLERANCE = 1e-9;
+
+    private final double[] keys;
+    private final double[] values;
+    private final int lastIndex;
+
+    private final boolean uniform;
+    private final double firstKey;
+    private final double inverseStep;
+
+    public InterpolatingTable(double[] keys, double[] values) {
+        if (keys.length == 0 || keys.length != values.length) {
+            throw new IllegalArgumentException(
+                "Table needs matching, non-empty key and value arrays (" + keys.length + " keys, "
+                    + values.length + " values)");
+        }
+        for (int i = 1; i < keys.length; i++) {
+            if (!(keys[i] > keys[i - 1])) {
+                throw new IllegalArgumentException(
+                    "Table keys must be strictly increasing (index " + i + ": " + keys[i] + ")");
+            }
+        }
+        this.keys = keys.clone();
+        this.values = values.clone();
+        this.lastIndex = keys.length - 1;
+        this.firstKey = keys[0];
+
+        double step = lastIndex > 0 ? (keys[lastIndex] - keys[0]) / lastIndex : 0.0;
+        boolean evenlySpaced = lastIndex > 1;
+        for (int i = 1; i < lastIndex && evenlySpaced; i++) {
+            evenlySpaced = Math.abs(keys[i] - (keys[0] + i * step)) <= UNIFORM_TOLERANCE * step;
+        }
+        this.uniform = evenlySpaced;
+        this.inverseStep = step > 0.0 ? 1.0 / step : 0.0;
+    }
+
+    public double get(double key) {
+        if (key <= keys[0]) {
+            return values[0];
+        }
+        if (!(key < keys[lastIndex])) { // also catches NaN
+            return values[lastIndex];
+        }
+
+        int i = uniform ? uniformIndex(key) : searchIndex(key);
+        double lowKey = keys[i];
+        if (key == lowKey) {
+            return values[i];
+        }
+        double t = (key - lowKey) / (keys[i + 1] - lowKey);
+        return values[i] + (values[i + 1] - values[i]) * t;
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public double getKey(int index) {
+        return keys[index];
+    }
+
+    public double getValue(int index) {
+        return values[index];
+    }
+
+    public double getMinKey() {
+        return keys[0];
+    }
+
+    public double getMaxKey() {
+        return keys[lastIndex];
+    }
+
+    public boolean isUniform() {
+        return uniform;
+    }
+
+    public double[] copyKeys() {
+        return keys.clone();
+    }
+
+    public double[] copyValues() {
+        return values.clone();
+    }
+
+    /** Largest index i with keys[i] <= key, for keys[0] < key < keys[last]. */
+    private int uniformIndex(double key) {
+        int i = (int) ((key - firstKey) * inverseStep);
+        if (i > lastIndex - 1) {
+            i = lastIndex - 1;
+        }
+        // The computed index can be one off when the key sits on a breakpoint.
+        if (keys[i] > key) {
+            i--;
+        } else if (keys[i + 1] <= key) {
+            i++;
+        }
+        return i;
+    }
+
+    private int searchIndex(double key) {
+        int low = 0;
+        int length = keys.length;
+        while (length > 1) {
+            int half = length >>> 1;
+            low = keys[low + half] <= key ? low + half : low;
+            length -= half;
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "InterpolatingTable" + Arrays.toString(keys) + " -> " + Arrays.toString(values);
+    }
+}
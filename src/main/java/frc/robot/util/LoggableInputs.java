@@ -0,0 +1,11 @@
+package frc.robot.util;
+
+/** A subsystem's per-loop inputs, flattened to a fixed-order array for logging and replay. */
+public interface LoggableInputs {
+    /** Field names, in the order {@link #toLog} writes them. */
+    String[] fieldNames();
+
+    void toLog(double[] values);
+
+    void fromLog(double[] values);
+}
@@ -0,0 +1,73 @@
+package frc.robot.util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size histogram of durations in microseconds. Buckets are log-scaled with four per power
+ * of two (worst-case error 25%), covering up to about a minute in {@value #BUCKETS} counters, so
+ * recording and percentile queries never allocate.
+ */
+public final class LoopHistogram {
+    public static final int BUCKETS = 100;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total = 0;
+    private long max = 0;
+
+    public void record(long micros) {
+        counts[bucketOf(micros)]++;
+        total++;
+        if (micros > max) {
+            max = micros;
+        }
+    }
+
+    public long getCount() {
+        return total;
+    }
+
+    public long getMaxMicros() {
+        return max;
+    }
+
+    /** Upper edge of the bucket holding the given percentile (0..1), or 0 when empty. */
+    public long getPercentileMicros(double fraction) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max);
+            }
+        }
+        return max;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+        max = 0;
+    }
+
+    static int bucketOf(long micros) {
+        if (micros < 4) {
+            return (int) Math.max(0, micros);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (exponent - 2)) & 3;
+        return Math.min(BUCKETS - 1, 4 * (exponent - 1) + sub);
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < 4) {
+            return bucket;
+        }
+        int exponent = bucket / 4 + 1;
+        int sub = bucket % 4;
+        long lower = (long) (4 + sub) << (exponent - 2);
+        return lower + (1L << (exponent - 2)) - 1;
+    }
+}
@@ -0,0 +1,108 @@
+package frc.robot.util;
+
+import edu.wpi.first.networktables.DoublePublisher;
+import edu.wpi.first.networktables.IntegerPublisher;
+import edu.wpi.first.networktables.NetworkTable;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj2.command.Command;
+import frc.robot.Constants.ProfilingConstants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loop timing for subsystems and commands. Each named {@link Probe} keeps a preallocated
+ * histogram of durations measured with {@link RobotController#getFPGATime()}; every
+ * {@link ProfilingConstants#PUBLISH_PERIOD_LOOPS} loops the p50/p99/max of that window, plus
+ * the running overrun count, go to the {@code Profiling} NetworkTables table.
+ *
+ * <p>Probes are created once at construction time; only {@link Probe#record} and
+ * {@link #publishPeriodically()} run in the loop, and neither allocates.
+ */
+public final class LoopProfiler {
+    private static final NetworkTable TABLE =
+        NetworkTableInstance.getDefault().getTable(ProfilingConstants.TABLE_NAME);
+    private static final List<Probe> PROBES = new ArrayList<>();
+    private static final Map<String, Probe> BY_NAME = new HashMap<>();
+    private static int loopsSincePublish = 0;
+
+    private LoopProfiler() {}
+
+    /** The probe for {@code name}, created on first use. Overruns count durations past the budget. */
+    public static synchronized Probe probe(String name, long budgetMicros) {
+        Probe probe = BY_NAME.get(name);
+        if (probe == null) {
+            probe = new Probe(TABLE.getSubTable(name), budgetMicros);
+            BY_NAME.put(name, probe);
+            PROBES.add(probe);
+        }
+        return probe;
+    }
+
+    /** Wraps a command so its {@code execute()} is timed under {@code Commands/<name>}. */
+    public static Command timed(String name, Command command) {
+        return new TimedCommand(command, probe("Commands/" + name, ProfilingConstants.COMMAND_BUDGET_MICROS));
+    }
+
+    /** Call once per robot loop; publishes and starts a new window every few loops. */
+    public static void publishPeriodically() {
+        if (++loopsSincePublish < ProfilingConstants.PUBLISH_PERIOD_LOOPS) {
+            return;
+        }
+        loopsSincePublish = 0;
+        for (int i = 0; i < PROBES.size(); i++) {
+            PROBES.get(i).publish();
+        }
+    }
+
+    public static final class Probe {
+        private final LoopHistogram window = new LoopHistogram();
+        private final long budgetMicros;
+        private long overruns = 0;
+        private long worstMicros = 0;
+
+        private final DoublePublisher p50;
+        private final DoublePublisher p99;
+        private final DoublePublisher max;
+        private final DoublePublisher worst;
+        private final IntegerPublisher overrunCount;
+
+        private Probe(NetworkTable table, long budgetMicros) {
+            this.budgetMicros = budgetMicros;
+            p50 = table.getDoubleTopic("p50 (ms)").publish();
+            p99 = table.getDoubleTopic("p99 (ms)").publish();
+            max = table.getDoubleTopic("Max (ms)").publish();
+            worst = table.getDoubleTopic("Worst Since Boot (ms)").publish();
+            overrunCount = table.getIntegerTopic("Overruns").publish();
+            table.getDoubleTopic("Budget (ms)").publish().set(budgetMicros / 1000.0);
+        }
+
+        /** Records the time since {@code startMicros}, an earlier {@link RobotController#getFPGATime()}. */
+        public void record(long startMicros) {
+            long elapsed = RobotController.getFPGATime() - startMicros;
+            window.record(elapsed);
+            if (elapsed > budgetMicros) {
+                overruns++;
+            }
+            if (elapsed > worstMicros) {
+                worstMicros = elapsed;
+            }
+        }
+
+        public long getOverruns() {
+            return overruns;
+        }
+
+        private void publish() {
+            p50.set(window.getPercentileMicros(0.50) / 1000.0);
+            p99.set(window.getPercentileMicros(0.99) / 1000.0);
+            max.set(window.getMaxMicros() / 1000.0);
+            worst.set(worstMicros / 1000.0);
+            overrunCount.set(overruns);
+            window.reset();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package frc.robot.util;
+
+import edu.wpi.first.networktables.IntegerPublisher;
+import edu.wpi.first.networktables.NetworkTableInstance;
+import edu.wpi.first.wpilibj.Alert;
+import edu.wpi.first.wpilibj.Alert.AlertType;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.Constants.AlertConstants;
+
+/**
+ * A condition that is either present or not, shown as a WPILib {@link Alert} for as long as it
+ * lasts. Raising it every loop is cheap: the text is fixed at construction, repeats only bump a
+ * counter published under {@code AlertCounts/<group>}, and the DS console hears about it once per
+ * occurrence, at most every {@link AlertConstants#CONSOLE_REPORT_INTERVAL_SECONDS}.
+ */
+public class PersistentAlert {
+    private final Alert alert;
+    private final AlertType type;
+    private final String consoleMessage;
+    private final IntegerPublisher countPublisher;
+
+    private boolean active = false;
+    private long count = 0;
+    private double lastReportTimestamp = Double.NEGATIVE_INFINITY;
+
+    public PersistentAlert(String group, String text, AlertType type) {
+        this.alert = new Alert(group, text, type);
+        this.type = type;
+        this.consoleMessage = group + ": " + text;
+        this.countPublisher = NetworkTableInstance.getDefault()
+            .getTable(AlertConstants.COUNT_TABLE_NAME).getSubTable(group)
+            .getIntegerTopic(text).publish();
+        countPublisher.set(0);
+    }
+
+    /** Records one occurrence; the alert shows until {@link #clear()}. */
+    public void raise() {
+        count++;
+        countPublisher.set(count);
+        if (active) {
+            return;
+        }
+        active = true;
+        alert.set(true);
+
+        double now = Timer.getFPGATimestamp();
+        if (now - lastReportTimestamp >= AlertConstants.CONSOLE_REPORT_INTERVAL_SECONDS) {
+            lastReportTimestamp = now;
+            if (type == AlertType.kError) {
+                DriverStation.reportError(consoleMessage, false);
+            } else if (type == AlertType.kWarning) {
+                DriverStation.reportWarning(consoleMessage, false);
+            }
+        }
+    }
+
+    public void clear() {
+        if (active) {
+            active = false;
+            alert.set(false);
+        }
+    }
+
+    public void set(boolean present) {
+        if (present) {
+            raise();
+        } else {
+            clear();
+        }
+    }
+
+    /** Replaces the displayed text; builds a string, so keep it off per-loop paths. */
+    public void setText(String text) {
+        alert.setText(text);
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    /** Total occurrences since boot. */
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,24 @@
+package frc.robot.util;
+
+/**
+ * Coulomb friction for WPILib physics sims, which model only the motor and inertia. Friction is
+ * expressed as the voltage it takes to break away, the same quantity kS feedforward cancels.
+ */
+public final class SimFriction {
+    private static final double STOPPED_RAD_PER_SEC = 1e-3;
+
+    private SimFriction() {}
+
+    /** Voltage left to accelerate the mechanism after friction opposing its motion. */
+    public static double apply(double volts, double velocityRadPerSec, double frictionVolts) {
+        if (Math.abs(velocityRadPerSec) < STOPPED_RAD_PER_SEC) {
+            return Math.abs(volts) <= frictionVolts ? 0.0 : volts - Math.copySign(frictionVolts, volts);
+        }
+        return volts - Math.copySign(frictionVolts, velocityRadPerSec);
+    }
+
+    /** True when friction alone carried the velocity through zero during the last step. */
+    public static boolean crossedZero(double previousVelocity, double velocity, double volts, double frictionVolts) {
+        return previousVelocity * velocity < 0.0 && Math.abs(volts) <= frictionVolts;
+    }
+}
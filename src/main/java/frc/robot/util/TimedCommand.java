@@ -0,0 +1,22 @@
+package frc.robot.util;
+
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.WrapperCommand;
+
+/** Times each {@code execute()} of the wrapped command into a {@link LoopProfiler.Probe}. */
+public class TimedCommand extends WrapperCommand {
+    private final LoopProfiler.Probe probe;
+
+    TimedCommand(Command command, LoopProfiler.Probe probe) {
+        super(command);
+        this.probe = probe;
+    }
+
+    @Override
+    public void execute() {
+        long start = RobotController.getFPGATime();
+        m_command.execute();
+        probe.record(start);
+    }
+}
@@ -0,0 +1,114 @@
+package frc.robot.vision;
+
+import frc.robot.constants.VisionConstants;
+
+/**
+ * Recent timestamped distance measurements in a preallocated ring buffer. Predicts the distance at
+ * an arbitrary time by fitting a line through the samples of the last
+ * {@link VisionConstants#DISTANCE_HISTORY_SECONDS}, which corrects for camera latency and robot
+ * motion without allocating.
+ */
+public class DistanceBuffer {
+    private final int capacity;
+    private final double[] timestamps;
+    private final double[] distances;
+    private final DistanceSample sample = new DistanceSample();
+
+    private int head = 0;
+    private int count = 0;
+
+    public DistanceBuffer() {
+        this(VisionConstants.DISTANCE_BUFFER_SIZE);
+    }
+
+    public DistanceBuffer(int capacity) {
+        this.capacity = capacity;
+        this.timestamps = new double[capacity];
+        this.distances = new double[capacity];
+    }
+
+    public void clear() {
+        head = 0;
+        count = 0;
+    }
+
+    /** Records a measurement; repeats and out-of-order samples are ignored. */
+    public void add(double captureTimestampSeconds, double distanceMeters) {
+        if (count > 0 && captureTimestampSeconds <= getLatestTimestamp()) {
+            return;
+        }
+        timestamps[head] = captureTimestampSeconds;
+        distances[head] = distanceMeters;
+        head = (head + 1) % capacity;
+        if (count < capacity) {
+            count++;
+        }
+    }
+
+    /** Pulls the source's current measurement into the buffer if it is new. */
+    public void update(DistanceSource source) {
+        if (source.latest(sample)) {
+            add(sample.captureTimestampSeconds, sample.distanceMeters);
+        }
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /** True when the newest sample is recent enough to aim with. */
+    public boolean hasFreshMeasurement(double nowSeconds) {
+        return count > 0 && nowSeconds - getLatestTimestamp() <= VisionConstants.STALE_MEASUREMENT_SECONDS;
+    }
+
+    public double getLatestTimestamp() {
+        return timestamps[(head + capacity - 1) % capacity];
+    }
+
+    public double getLatestDistance() {
+        return distances[(head + capacity - 1) % capacity];
+    }
+
+    /**
+     * Distance expected at {@code timestampSeconds}, extrapolated at most
+     * {@link VisionConstants#MAX_EXTRAPOLATION_SECONDS} past the newest sample.
+     */
+    public double predict(double timestampSeconds) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double latestTime = getLatestTimestamp();
+        double oldestAllowed = latestTime - VisionConstants.DISTANCE_HISTORY_SECONDS;
+
+        double meanTime = 0.0;
+        double meanDistance = 0.0;
+        int used = 0;
+        for (int i = 0; i < count; i++) {
+            int index = (head + capacity - 1 - i) % capacity;
+            if (timestamps[index] < oldestAllowed) {
+                break;
+            }
+            meanTime += timestamps[index];
+            meanDistance += distances[index];
+            used++;
+        }
+        if (used < 2) {
+            return getLatestDistance();
+        }
+        meanTime /= used;
+        meanDistance /= used;
+
+        double covariance = 0.0;
+        double variance = 0.0;
+        for (int i = 0; i < used; i++) {
+            int index = (head + capacity - 1 - i) % capacity;
+            double dt = timestamps[index] - meanTime;
+            covariance += dt * (distances[index] - meanDistance);
+            variance += dt * dt;
+        }
+        double slope = variance > 0.0 ? covariance / variance : 0.0;
+
+        double target = Math.min(timestampSeconds, latestTime + VisionConstants.MAX_EXTRAPOLATION_SECONDS);
+        return meanDistance + slope * (target - meanTime);
+    }
+}
@@ -0,0 +1,15 @@
+package frc.robot.vision;
+
+/**
+ * One distance measurement together with the capture time of the frame it came from. Callers keep
+ * one instance and let a {@link DistanceSource} fill it, so reading a sample doesn't allocate.
+ */
+public class DistanceSample {
+    public double captureTimestampSeconds = Double.NaN;
+    public double distanceMeters = Double.NaN;
+
+    public void set(double captureTimestampSeconds, double distanceMeters) {
+        this.captureTimestampSeconds = captureTimestampSeconds;
+        this.distanceMeters = distanceMeters;
+    }
+}
@@ -0,0 +1,11 @@
+package frc.robot.vision;
+
+/** A target distance measurement stamped with the time it was captured, not the time it was read. */
+public interface DistanceSource {
+    /**
+     * Copies the newest measurement into {@code out}, timestamp and distance from the same frame.
+     *
+     * @return false (leaving {@code out} untouched) when nothing has been captured yet
+     */
+    boolean latest(DistanceSample out);
+}
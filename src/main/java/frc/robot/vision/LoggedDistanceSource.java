@@ -0,0 +1,26 @@
+package frc.robot.vision;
+
+import frc.robot.util.InputsLogger;
+
+/** Passes reads through to another source and logs each one as {@code Inputs/Vision}. */
+public class LoggedDistanceSource implements DistanceSource {
+    /** Name of the vision inputs entry in the data log. */
+    public static final String LOG_NAME = "Vision";
+
+    private final DistanceSource source;
+    private final VisionInputs inputs = new VisionInputs();
+    private final InputsLogger inputsLogger = new InputsLogger(LOG_NAME, inputs);
+
+    public LoggedDistanceSource(DistanceSource source) {
+        this.source = source;
+    }
+
+    @Override
+    public boolean latest(DistanceSample out) {
+        inputs.hasSample = source.latest(out);
+        inputs.captureTimestampSeconds = out.captureTimestampSeconds;
+        inputs.distanceMeters = out.distanceMeters;
+        inputsLogger.log();
+        return inputs.hasSample;
+    }
+}
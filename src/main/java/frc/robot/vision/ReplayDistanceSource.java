@@ -0,0 +1,28 @@
+package frc.robot.vision;
+
+import frc.robot.util.InputsLogReader;
+import frc.robot.util.InputsLogger;
+
+/** Plays back the vision reads logged by a {@link LoggedDistanceSource}, in the loops they happened. */
+public class ReplayDistanceSource implements DistanceSource {
+    private final InputsLogReader.Cursor cursor;
+    private final VisionInputs inputs = new VisionInputs();
+    private final double[] buffer = new double[inputs.fieldNames().length];
+
+    public ReplayDistanceSource(InputsLogReader log) {
+        cursor = log.cursor(InputsLogger.ENTRY_PREFIX + LoggedDistanceSource.LOG_NAME);
+    }
+
+    @Override
+    public boolean latest(DistanceSample out) {
+        if (!cursor.next(buffer)) {
+            return false;
+        }
+        inputs.fromLog(buffer);
+        if (!inputs.hasSample) {
+            return false;
+        }
+        out.set(inputs.captureTimestampSeconds, inputs.distanceMeters);
+        return true;
+    }
+}
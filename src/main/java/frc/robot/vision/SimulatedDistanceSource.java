@@ -0,0 +1,66 @@
+package frc.robot.vision;
+
+import edu.wpi.first.wpilibj.Timer;
+import frc.robot.constants.VisionConstants;
+
+/**
+ * Stand-in camera for desktop testing: the robot closes on (or backs away from) the target at a
+ * constant radial speed, and frames arrive at a fixed rate, each describing the scene
+ * {@link VisionConstants#SIM_CAMERA_LATENCY_SECONDS} in the past.
+ */
+public class SimulatedDistanceSource implements DistanceSource {
+    private final double startDistanceMeters;
+    private final double radialVelocityMps;
+    private final double latencySeconds;
+    private final double framePeriodSeconds;
+    private final double startTimestamp;
+
+    private double captureTimestamp = Double.NaN;
+    private double distanceMeters = Double.NaN;
+
+    /** A stationary robot at a fixed distance. */
+    public SimulatedDistanceSource(double distanceMeters) {
+        this(distanceMeters, 0.0);
+    }
+
+    /**
+     * @param startDistanceMeters distance when the source is created
+     * @param radialVelocityMps rate of change of distance; negative means driving toward the target
+     */
+    public SimulatedDistanceSource(double startDistanceMeters, double radialVelocityMps) {
+        this.startDistanceMeters = startDistanceMeters;
+        this.radialVelocityMps = radialVelocityMps;
+        this.latencySeconds = VisionConstants.SIM_CAMERA_LATENCY_SECONDS;
+        this.framePeriodSeconds = 1.0 / VisionConstants.SIM_CAMERA_FPS;
+        this.startTimestamp = Timer.getFPGATimestamp();
+    }
+
+    @Override
+    public boolean latest(DistanceSample out) {
+        refresh();
+        if (Double.isNaN(captureTimestamp)) {
+            return false;
+        }
+        out.set(captureTimestamp, distanceMeters);
+        return true;
+    }
+
+    /** True distance right now, for comparing against what the pipeline predicts. */
+    public double getTrueDistanceMeters(double timestampSeconds) {
+        return startDistanceMeters + radialVelocityMps * (timestampSeconds - startTimestamp);
+    }
+
+    private void refresh() {
+        double newestCapture = Timer.getFPGATimestamp() - latencySeconds;
+        if (newestCapture < startTimestamp) {
+            return;
+        }
+        // Snap to the frame grid so repeated reads within a frame return the same frame.
+        double frame = Math.floor((newestCapture - startTimestamp) / framePeriodSeconds);
+        double frameTimestamp = startTimestamp + frame * framePeriodSeconds;
+        if (frameTimestamp != captureTimestamp) {
+            captureTimestamp = frameTimestamp;
+            distanceMeters = getTrueDistanceMeters(frameTimestamp);
+        }
+    }
+}
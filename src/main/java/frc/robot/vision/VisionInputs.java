@@ -0,0 +1,31 @@
+package frc.robot.vision;
+
+import frc.robot.util.LoggableInputs;
+
+/** One read of a {@link DistanceSource}, logged so a replay returns the same samples in the same loops. */
+public class VisionInputs implements LoggableInputs {
+    private static final String[] FIELDS = {"hasSample", "captureTimestampSeconds", "distanceMeters"};
+
+    public boolean hasSample = false;
+    public double  captureTimestampSeconds = Double.NaN;
+    public double  distanceMeters = Double.NaN;
+
+    @Override
+    public String[] fieldNames() {
+        return FIELDS;
+    }
+
+    @Override
+    public void toLog(double[] values) {
+        values[0] = hasSample ? 1.0 : 0.0;
+        values[1] = captureTimestampSeconds;
+        values[2] = distanceMeters;
+    }
+
+    @Override
+    public void fromLog(double[] values) {
+        hasSample               = values[0] != 0.0;
+        captureTimestampSeconds = values[1];
+        distanceMeters          = values[2];
+    }
+}
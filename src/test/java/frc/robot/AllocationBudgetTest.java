@@ -0,0 +1,176 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.sun.management.ThreadMXBean;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.commands.shooter.ShootWithVision;
+import frc.robot.commands.shooter.SpinUpForDistance;
+import frc.robot.subsystems.IntakeIOSparkMax;
+import frc.robot.subsystems.IntakeSubsystem;
+import frc.robot.subsystems.ShooterIOTalonFX;
+import frc.robot.subsystems.ShooterSubsystem;
+import frc.robot.util.LoopProfiler;
+import frc.robot.vision.SimulatedDistanceSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Runs the per-loop paths of the shooter, the intake and the shooter commands for thousands of
+ * cycles and fails when any of them allocates more than its budget per cycle, measured with
+ * {@link ThreadMXBean#getCurrentThreadAllocatedBytes()}. Physics sims are left out: they only run
+ * on the desktop and allocate by design.
+ *
+ * <p>Each path has its own budget in {@code src/test/resources/allocation_budget.properties},
+ * in bytes per cycle as measured by {@code ./gradlew allocationBudget -Palloc.updateBudget}. Our
+ * own loop code is meant to measure 0; a path above that is carrying allocation inside the
+ * Phoenix or REV libraries, which we can't remove, and its budget keeps it from growing. A budget
+ * of 0 allows nothing, any other may be exceeded by 10% before the test fails. A path without a
+ * budget fails, and {@code ./gradlew test} leaves this class out until the measured file is
+ * committed.
+ */
+@Tag("allocationBudget")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AllocationBudgetTest {
+    private static final int WARMUP_CYCLES = 20_000;
+    private static final int MEASURED_CYCLES = 10_000;
+    private static final double TOLERANCE = 0.10;
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private final Path budgetFile = Path.of(
+        System.getProperty("alloc.budgetFile", "src/test/resources/allocation_budget.properties"));
+    private final boolean updateBudget = Boolean.getBoolean("alloc.updateBudget");
+    private final Properties budgets = new Properties();
+    private final Map<String, Long> measured = new TreeMap<>();
+
+    private ShooterSubsystem shooter;
+    private IntakeSubsystem intake;
+
+    @BeforeAll
+    void startSubsystems() throws IOException, InterruptedException {
+        if (Files.exists(budgetFile)) {
+            try (InputStream in = Files.newInputStream(budgetFile)) {
+                budgets.load(in);
+            }
+        } else if (!updateBudget) {
+            fail("No allocation budgets at " + budgetFile + "; record them with ./gradlew allocationBudget -Palloc.updateBudget");
+        }
+
+        assertTrue(HAL.initialize(500, 0));
+        CommandScheduler.getInstance().cancelAll();
+        CommandScheduler.getInstance().unregisterAllSubsystems();
+        DriverStationSim.setDsAttached(true);
+        DriverStationSim.setAutonomous(false);
+        DriverStationSim.setEnabled(true);
+        DriverStationSim.notifyNewData();
+
+        shooter = new ShooterSubsystem(new ShooterIOTalonFX());
+        intake = new IntakeSubsystem(new IntakeIOSparkMax());
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!(shooter.isReady() && intake.isReady()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(shooter.isReady() && intake.isReady(), "subsystems never finished configuring");
+    }
+
+    @AfterAll
+    void stopSubsystems() throws IOException {
+        shooter.stop();
+        intake.stop();
+        CommandScheduler.getInstance().unregisterAllSubsystems();
+        DriverStationSim.setEnabled(false);
+        DriverStationSim.notifyNewData();
+
+        if (updateBudget) {
+            Properties properties = new Properties();
+            measured.forEach((path, bytes) -> properties.setProperty(path, Long.toString(bytes)));
+            Files.createDirectories(budgetFile.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(budgetFile)) {
+                properties.store(out, "Allocated bytes per cycle - regenerate with ./gradlew allocationBudget -Palloc.updateBudget");
+            }
+        }
+    }
+
+    @Test
+    void shooterPeriodic(TestInfo test) {
+        shooter.setVelocityRPM(3000);
+        assertWithinBudget(test, shooter::periodic);
+    }
+
+    @Test
+    void intakePeriodic(TestInfo test) {
+        intake.calibrate();
+        intake.extend();
+        assertWithinBudget(test, intake::periodic);
+    }
+
+    @Test
+    void spinUpForDistance(TestInfo test) {
+        Command spinUp = new SpinUpForDistance(shooter, intake, 3.0);
+        spinUp.initialize();
+        assertWithinBudget(test, () -> {
+            spinUp.execute();
+            spinUp.isFinished();
+            shooter.periodic();
+        });
+        spinUp.end(true);
+    }
+
+    @Test
+    void timedShootWithVision(TestInfo test) {
+        Command vision = LoopProfiler.timed("AllocationBudgetTest",
+            new ShootWithVision(shooter, new SimulatedDistanceSource(4.5, -0.5)));
+        vision.initialize();
+        assertWithinBudget(test, () -> {
+            vision.execute();
+            shooter.periodic();
+            LoopProfiler.publishPeriodically();
+        });
+        vision.end(true);
+    }
+
+    /** Measures {@code cycle} under the test method's name and checks it against that path's budget. */
+    private void assertWithinBudget(TestInfo test, Runnable cycle) {
+        for (int i = 0; i < WARMUP_CYCLES; i++) {
+            cycle.run();
+        }
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_CYCLES; i++) {
+            cycle.run();
+        }
+        double perCycle = (double) (THREADS.getCurrentThreadAllocatedBytes() - before) / MEASURED_CYCLES;
+
+        String path = test.getTestMethod().orElseThrow().getName();
+        measured.put(path, (long) Math.ceil(perCycle));
+        if (updateBudget) {
+            return;
+        }
+        String stored = budgets.getProperty(path);
+        if (stored == null) {
+            fail(path + " has no allocation budget");
+        }
+        long budget = Long.parseLong(stored);
+        assertTrue(perCycle <= budget * (1.0 + TOLERANCE),
+            String.format("%s allocated %.1f bytes/cycle, budget %d", path, perCycle, budget));
+    }
+}
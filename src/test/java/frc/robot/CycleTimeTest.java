@@ -0,0 +1,391 @@
+package frc.robot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.math.util.Units;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.simulation.BatterySim;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import edu.wpi.first.wpilibj.simulation.RoboRioSim;
+import edu.wpi.first.wpilibj.simulation.SimHooks;
+import edu.wpi.first.wpilibj2.command.Command;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import edu.wpi.first.wpilibj2.command.Commands;
+import frc.robot.commands.shooter.ShootWithVision;
+import frc.robot.commands.shooter.ShotCycle;
+import frc.robot.commands.shooter.SpinUpForDistance;
+import frc.robot.commands.shooter.WaitForShot;
+import frc.robot.constants.ShooterConstants;
+import frc.robot.subsystems.IntakeIOSim;
+import frc.robot.subsystems.IntakeSubsystem;
+import frc.robot.subsystems.LockstepShooterIO;
+import frc.robot.subsystems.ShooterProfile;
+import frc.robot.subsystems.ShooterSubsystem;
+import frc.robot.vision.SimulatedDistanceSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Scripted end-to-end timing of the shooter commands, stepped in fixed 20 ms loops with robot
+ * time paused. The flywheel is a {@link LockstepShooterIO}, so the closed loop advances with robot
+ * time and every run produces the same numbers. Each scenario checks its button-to-ready
+ * percentiles and shots per second against {@code src/test/resources/cycle_time_baseline.properties}:
+ * times may not grow and rates may not shrink by more than 10%.
+ *
+ * <p>A scenario without a baseline fails. {@code ./gradlew cycleTime -Pharness.updateBaseline}
+ * records the current numbers instead; commit the file it writes. {@code ./gradlew test} leaves
+ * this class out until that measured file is committed.
+ */
+@Tag("cycleTime")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class CycleTimeTest {
+    private static final double TOLERANCE = 0.10;
+    private static final double LOOP_SECONDS = 0.02;
+    private static final double READY_TIMEOUT_SECONDS = 3.0;
+    private static final double REST_TIMEOUT_SECONDS = 10.0;
+    private static final double REST_RPM = 20.0;
+    private static final double FEED_DELAY_SECONDS = 0.06;
+    private static final double MAX_SWEEP_FRACTION_OF_FREE_SPEED = 0.9;
+
+    private static final int DISTANCES_PER_PROFILE = 8;
+    private static final int REPEATED_SHOTS = 10;
+    private static final int VISION_RUNS = 5;
+    private static final int AUTO_RUNS = 3;
+    private static final double REPEATED_SHOT_DISTANCE_METERS = 3.0;
+
+    private final Path baselineFile = Path.of(
+        System.getProperty("harness.baseline", "src/test/resources/cycle_time_baseline.properties"));
+    private final boolean updateBaseline = Boolean.getBoolean("harness.updateBaseline");
+    private final Map<String, Double> results = new TreeMap<>();
+    private final Properties baseline = new Properties();
+
+    private LockstepShooterIO shooterIO;
+    private RobotContainer container;
+    private ShooterSubsystem shooter;
+    private IntakeSubsystem intake;
+
+    private boolean feedArmed = false;
+    private ShotCycle activeCycle = null;
+    private double readySince = Double.NaN;
+    private int timeouts = 0;
+
+    @BeforeAll
+    void startRobot() throws IOException, InterruptedException {
+        if (Files.exists(baselineFile)) {
+            try (InputStream in = Files.newInputStream(baselineFile)) {
+                baseline.load(in);
+            }
+        } else if (!updateBaseline) {
+            fail("No cycle-time baseline at " + baselineFile + "; record one with ./gradlew cycleTime -Pharness.updateBaseline");
+        }
+
+        assertTrue(HAL.initialize(500, 0));
+        CommandScheduler.getInstance().cancelAll();
+        CommandScheduler.getInstance().unregisterAllSubsystems();
+        DriverStationSim.setDsAttached(true);
+        DriverStationSim.setAutonomous(false);
+        DriverStationSim.setEnabled(true);
+        DriverStationSim.notifyNewData();
+
+        shooterIO = new LockstepShooterIO();
+        container = new RobotContainer(shooterIO, new IntakeIOSim());
+        shooter = container.getShooter();
+        intake = container.getIntake();
+
+        // Device configuration completes on its own threads, so wait for it before freezing time
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!(shooter.isReady() && intake.isReady()) && System.currentTimeMillis() < deadline) {
+            DriverStationSim.notifyNewData();
+            Thread.sleep(20);
+        }
+        assertTrue(shooter.isReady() && intake.isReady(), "subsystems never finished configuring");
+        SimHooks.pauseTiming();
+    }
+
+    @AfterAll
+    void stopRobot() throws IOException {
+        CommandScheduler.getInstance().cancelAll();
+        CommandScheduler.getInstance().unregisterAllSubsystems();
+        DriverStationSim.setEnabled(false);
+        DriverStationSim.notifyNewData();
+        SimHooks.resumeTiming();
+
+        if (updateBaseline) {
+            Properties properties = new Properties();
+            results.forEach((key, value) -> properties.setProperty(key, Double.toString(value)));
+            Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+            try (OutputStream out = Files.newOutputStream(baselineFile)) {
+                properties.store(out, "Cycle-time baseline - regenerate with ./gradlew cycleTime -Pharness.updateBaseline");
+            }
+        }
+    }
+
+    /** Every profile cold, at evenly spaced distances across the part of its range the motor can reach. */
+    @Test
+    @Order(1)
+    void profileSweep() {
+        double maxRPM = MAX_SWEEP_FRACTION_OF_FREE_SPEED
+            * Units.radiansPerSecondToRotationsPerMinute(ShooterConstants.SIM_MOTOR.freeSpeedRadPerSec)
+            / ShooterConstants.GEAR_RATIO;
+        List<Double> all = new ArrayList<>();
+        for (ShooterProfile profile : new TreeMap<>(ShooterConstants.createAllProfiles()).values()) {
+            shooter.setActiveProfile(profile.getName());
+            for (int i = 0; i < DISTANCES_PER_PROFILE; i++) {
+                double distance = profile.getMinSafeDistance()
+                    + (profile.getMaxSafeDistance() - profile.getMinSafeDistance()) * i / (DISTANCES_PER_PROFILE - 1);
+                if (profile.getRPMForDistance(distance) > maxRPM) {
+                    continue;
+                }
+                coastToRest();
+                Command spinUp = new SpinUpForDistance(shooter, intake, distance);
+                all.add(timeToReady(spinUp));
+                spinUp.cancel();
+            }
+        }
+        shooter.setActiveProfile(ShooterConstants.DEFAULT_PROFILE_NAME);
+        putPercentiles("sweep.all", all);
+        check("sweep.");
+    }
+
+    /** Back-to-back single shots; each press stops the wheel after its shot, so the next one re-spins. */
+    @Test
+    @Order(2)
+    void repeatedShots() {
+        coastToRest();
+        List<Double> samples = new ArrayList<>();
+        int startCount = shooter.getShotCount();
+        double start = now();
+        for (int i = 0; i < REPEATED_SHOTS; i++) {
+            samples.add(shootOnce(REPEATED_SHOT_DISTANCE_METERS));
+        }
+        double elapsed = now() - start;
+        putPercentiles("repeated", samples);
+        results.put("repeated.shotsPerSecond", (shooter.getShotCount() - startCount) / elapsed);
+        check("repeated.");
+    }
+
+    /** The same shots queued onto one shot cycle, which feeds on events and never drops the wheel. */
+    @Test
+    @Order(3)
+    void queuedShots() {
+        runQueuedShots("cycle", false);
+        check("cycle.");
+    }
+
+    /** Queued shots in burst mode, which feeds before full recovery with a boosted wheel. */
+    @Test
+    @Order(4)
+    void burstShots() {
+        runQueuedShots("burst", true);
+        check("burst.");
+    }
+
+    /** Alternating profiles between shots, which also moves the motion limits and idle speed. */
+    @Test
+    @Order(5)
+    void profileSwitches() {
+        String[] names = ShooterConstants.createAllProfiles().keySet().stream().sorted().toArray(String[]::new);
+        coastToRest();
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < REPEATED_SHOTS; i++) {
+            shooter.setActiveProfile(names[i % names.length]);
+            samples.add(shootOnce(REPEATED_SHOT_DISTANCE_METERS));
+        }
+        shooter.setActiveProfile(ShooterConstants.DEFAULT_PROFILE_NAME);
+        putPercentiles("profileSwitch", samples);
+        check("profileSwitch.");
+    }
+
+    /** Tracking a target while driving toward it at 0.5 m/s. */
+    @Test
+    @Order(6)
+    void visionApproach() {
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < VISION_RUNS; i++) {
+            coastToRest();
+            Command track = new ShootWithVision(shooter, new SimulatedDistanceSource(4.5, -0.5));
+            samples.add(timeToReady(track));
+            track.cancel();
+        }
+        putPercentiles("vision", samples);
+        check("vision.");
+    }
+
+    /** The full autonomous routine, with the feed modelled as soon as the shooter is ready. */
+    @Test
+    @Order(7)
+    void autonomous() {
+        DriverStationSim.setAutonomous(true);
+        List<Double> samples = new ArrayList<>();
+        for (int i = 0; i < AUTO_RUNS; i++) {
+            coastToRest();
+            Command auto = container.getAutonomousCommand();
+            double start = now();
+            feedArmed = true;
+            CommandScheduler.getInstance().schedule(auto);
+            samples.add(runUntil(() -> !auto.isScheduled(), READY_TIMEOUT_SECONDS + 2.0) ? now() - start : Double.NaN);
+        }
+        feedArmed = false;
+        DriverStationSim.setAutonomous(false);
+        putPercentiles("auto", samples);
+        check("auto.");
+    }
+
+    private void runQueuedShots(String scenario, boolean burst) {
+        coastToRest();
+        ShotCycle cycle = new ShotCycle(shooter, intake, burst);
+        for (int i = 0; i < REPEATED_SHOTS; i++) {
+            cycle.queueShot(REPEATED_SHOT_DISTANCE_METERS);
+        }
+        activeCycle = cycle;
+        CommandScheduler.getInstance().schedule(cycle);
+        runUntil(() -> !cycle.isScheduled(), REPEATED_SHOTS * READY_TIMEOUT_SECONDS);
+        activeCycle = null;
+        results.put(scenario + ".shotsPerSecond", cycle.getBallsPerSecond());
+    }
+
+    /** One press of a shoot button as bound in {@link RobotContainer}; returns button-to-ready seconds. */
+    private double shootOnce(double distance) {
+        shooter.setGamePieceStaged(true);
+        Command shot = Commands.sequence(
+            new SpinUpForDistance(shooter, intake, distance),
+            new WaitForShot(shooter).withTimeout(ShooterConstants.SHOT_WAIT_TIMEOUT_SECONDS),
+            Commands.runOnce(() -> {
+                shooter.stop();
+                intake.stop();
+            }, shooter, intake));
+
+        feedArmed = true;
+        double readyTime = timeToReady(shot);
+        runUntil(() -> !shot.isScheduled(), READY_TIMEOUT_SECONDS);
+        feedArmed = false;
+        return readyTime;
+    }
+
+    private double timeToReady(Command command) {
+        double start = now();
+        CommandScheduler.getInstance().schedule(command);
+        return runUntil(shooter::isReadyToShoot, READY_TIMEOUT_SECONDS) ? now() - start : Double.NaN;
+    }
+
+    private void coastToRest() {
+        CommandScheduler.getInstance().cancelAll();
+        shooter.stop();
+        intake.stop();
+        runUntil(() -> Math.abs(shooter.getWheelRPM()) < REST_RPM, REST_TIMEOUT_SECONDS);
+    }
+
+    private boolean runUntil(BooleanSupplier condition, double timeoutSeconds) {
+        double deadline = now() + timeoutSeconds;
+        while (!condition.getAsBoolean()) {
+            if (now() >= deadline) {
+                timeouts++;
+                return false;
+            }
+            step();
+        }
+        return true;
+    }
+
+    /** One robot loop, in the same order as TimedRobot, then advances robot time by 20 ms. */
+    private void step() {
+        DriverStationSim.notifyNewData();
+        DriverStation.refreshData();
+        CommandScheduler.getInstance().run();
+        RoboRioSim.setVInVoltage(
+            BatterySim.calculateDefaultBatteryLoadedVoltage(container.getSimulatedCurrentDrawAmps()));
+        updateFeeder();
+        SimHooks.stepTiming(LOOP_SECONDS);
+    }
+
+    /**
+     * Stands in for the feed: a ball leaves the shooter shortly after it first reports ready, or
+     * shortly after a shot cycle starts feeding.
+     */
+    private void updateFeeder() {
+        boolean feeding = activeCycle != null
+            ? activeCycle.getStage() == ShotCycle.Stage.FEED
+            : feedArmed && shooter.isReadyToShoot();
+        if (!feeding) {
+            readySince = Double.NaN;
+            return;
+        }
+        if (Double.isNaN(readySince)) {
+            readySince = now();
+        } else if (now() - readySince >= FEED_DELAY_SECONDS) {
+            shooterIO.ballExit();
+            feedArmed = false;
+            readySince = Double.NaN;
+        }
+    }
+
+    /** Fails on a timeout or on any result under {@code prefix} that regressed past the baseline. */
+    private void check(String prefix) {
+        assertEquals(0, timeouts, "a scenario step timed out");
+        if (updateBaseline) {
+            return;
+        }
+        List<String> regressions = new ArrayList<>();
+        results.forEach((key, actual) -> {
+            if (!key.startsWith(prefix)) {
+                return;
+            }
+            String stored = baseline.getProperty(key);
+            if (stored == null) {
+                regressions.add(key + " has no baseline");
+                return;
+            }
+            double expected = Double.parseDouble(stored);
+            boolean regressed = key.endsWith("shotsPerSecond")
+                ? actual < expected * (1.0 - TOLERANCE)
+                : Double.isNaN(actual) || actual > expected * (1.0 + TOLERANCE);
+            if (regressed) {
+                regressions.add(String.format("%s baseline %.4f, now %.4f", key, expected, actual));
+            }
+        });
+        assertTrue(regressions.isEmpty(), "Cycle-time regression: " + regressions);
+    }
+
+    private void putPercentiles(String scenario, List<Double> samples) {
+        double[] sorted = samples.stream().filter(s -> !Double.isNaN(s)).mapToDouble(Double::doubleValue).sorted().toArray();
+        results.put(scenario + ".p50", percentile(sorted, 0.50));
+        results.put(scenario + ".p90", percentile(sorted, 0.90));
+        results.put(scenario + ".max", sorted.length > 0 ? sorted[sorted.length - 1] : Double.NaN);
+    }
+
+    /** Nearest-rank percentile of a sorted array. */
+    private static double percentile(double[] sorted, double fraction) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double now() {
+        return Timer.getFPGATimestamp();
+    }
+}
@@ -0,0 +1,149 @@
+package frc.robot.commands.shooter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import edu.wpi.first.wpilibj.simulation.SimHooks;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.constants.ShooterConstants;
+import frc.robot.subsystems.IntakeIO;
+import frc.robot.subsystems.IntakeInputs;
+import frc.robot.subsystems.IntakeSubsystem;
+import frc.robot.subsystems.LockstepShooterIO;
+import frc.robot.subsystems.ShooterSubsystem;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+class ShotCycleTest {
+    private static final double LOOP_SECONDS = 0.02;
+    private static final double TIMEOUT_SECONDS = 30.0;
+    private static final int FEED_DELAY_LOOPS = 3;
+
+    private LockstepShooterIO shooterIO;
+    private ShooterSubsystem shooter;
+    private IntakeSubsystem intake;
+    private ShotCycle cycle;
+
+    @BeforeEach
+    void createCycle() {
+        assertTrue(HAL.initialize(500, 0));
+        CommandScheduler.getInstance().cancelAll();
+        CommandScheduler.getInstance().unregisterAllSubsystems();
+        DriverStationSim.setDsAttached(true);
+        DriverStationSim.setAutonomous(false);
+        DriverStationSim.setEnabled(true);
+        DriverStationSim.notifyNewData();
+        DriverStation.refreshData();
+        SimHooks.pauseTiming();
+
+        shooterIO = new LockstepShooterIO();
+        shooter = new ShooterSubsystem(shooterIO);
+        intake = new IntakeSubsystem(new TeleportingIntakeIO());
+        cycle = new ShotCycle(shooter, intake);
+    }
+
+    @AfterEach
+    void stop() {
+        CommandScheduler.getInstance().cancelAll();
+        CommandScheduler.getInstance().unregisterAllSubsystems();
+        DriverStationSim.setEnabled(false);
+        DriverStationSim.notifyNewData();
+        SimHooks.resumeTiming();
+    }
+
+    @Test
+    void aShotWhoseFeedsAllMissIsRetriedThenGivenUp() {
+        runQueue(Integer.MAX_VALUE);
+        assertEquals(0, cycle.getShotsFired());
+        assertEquals(1 + ShooterConstants.SHOT_FEED_RETRIES, cycle.getMissedFeeds());
+        assertEquals(1, cycle.getGivenUpShots());
+    }
+
+    @Test
+    void aMissedFeedIsRetriedWithTheSameShot() {
+        runQueue(2);
+        assertEquals(1, cycle.getShotsFired());
+        assertEquals(1, cycle.getMissedFeeds());
+        assertEquals(0, cycle.getGivenUpShots());
+    }
+
+    /** Runs one queued shot to the end; the ball only leaves on feed number {@code feedThatShoots}. */
+    private void runQueue(int feedThatShoots) {
+        cycle.queueShot(3.0);
+        CommandScheduler.getInstance().schedule(cycle);
+
+        int feeds = 0;
+        int feedingLoops = 0;
+        for (double t = 0.0; cycle.isScheduled(); t += LOOP_SECONDS) {
+            assertTrue(t < TIMEOUT_SECONDS, "shot cycle never finished");
+            DriverStationSim.notifyNewData();
+            DriverStation.refreshData();
+            CommandScheduler.getInstance().run();
+
+            if (cycle.getStage() == ShotCycle.Stage.FEED) {
+                if (feedingLoops++ == 0) {
+                    feeds++;
+                }
+                if (feeds == feedThatShoots && feedingLoops == FEED_DELAY_LOOPS) {
+                    shooterIO.ballExit();
+                }
+            } else {
+                feedingLoops = 0;
+            }
+            SimHooks.stepTiming(LOOP_SECONDS);
+        }
+        assertFalse(cycle.isScheduled());
+    }
+
+    /** A pivot that is wherever it was last told to be, and stalls against its stop while homing. */
+    private static final class TeleportingIntakeIO implements IntakeIO {
+        private double positionDegrees = 0.0;
+        private boolean homing = false;
+
+        @Override
+        public void updateInputs(IntakeInputs inputs) {
+            inputs.timestampSeconds = Timer.getFPGATimestamp();
+            inputs.positionDegrees = positionDegrees;
+            inputs.velocityDegPerSec = 0.0;
+            inputs.outputCurrentAmps = homing ? 20.0 : 0.0;
+            inputs.busVoltage = 12.0;
+        }
+
+        @Override
+        public void setPosition(double degrees, double feedforwardVolts) {
+            homing = false;
+            positionDegrees = degrees;
+        }
+
+        @Override
+        public void setDutyCycle(double output) {
+            homing = output < 0.0;
+        }
+
+        @Override
+        public void stop() {
+            homing = false;
+        }
+
+        @Override
+        public void resetPosition(double degrees) {
+            positionDegrees = degrees;
+        }
+
+        @Override
+        public void setSoftLimitsEnabled(boolean enabled) {}
+
+        @Override
+        public CompletableFuture<Boolean> getConfiguredFuture() {
+            return CompletableFuture.completedFuture(true);
+        }
+    }
+}
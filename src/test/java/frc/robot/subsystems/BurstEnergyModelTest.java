@@ -0,0 +1,64 @@
+package frc.robot.subsystems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import frc.robot.constants.ShooterConstants;
+import org.junit.jupiter.api.Test;
+
+class BurstEnergyModelTest {
+    private static final double EPSILON = 1e-9;
+    private static final double MOI = ShooterConstants.FLYWHEEL_MOI_KG_M2;
+    private static final double INITIAL_JOULES = 40.0;
+
+    private final BurstEnergyModel model = new BurstEnergyModel(MOI, INITIAL_JOULES);
+
+    @Test
+    void recordShotMovesTheEstimateTowardTheMeasuredLoss() {
+        double lost = model.kineticEnergyJoules(4000.0) - model.kineticEnergyJoules(3700.0);
+        model.recordShot(4000.0, 300.0);
+        assertEquals(INITIAL_JOULES + ShooterConstants.BURST_ENERGY_ALPHA * (lost - INITIAL_JOULES),
+            model.getEnergyPerBallJoules(), EPSILON);
+        assertEquals(1, model.getShotsLearned());
+    }
+
+    @Test
+    void recordShotIgnoresImpossibleDips() {
+        model.recordShot(0.0, 100.0);
+        model.recordShot(4000.0, 0.0);
+        model.recordShot(4000.0, 4000.0);
+        assertEquals(INITIAL_JOULES, model.getEnergyPerBallJoules(), EPSILON);
+        assertEquals(0, model.getShotsLearned());
+    }
+
+    @Test
+    void atTargetTheBoostCarriesTheBallFractionOnly() {
+        double target = 4000.0;
+        double expected = model.rpmForEnergy(model.kineticEnergyJoules(target)
+            + ShooterConstants.BURST_BOOST_ENERGY_FRACTION * INITIAL_JOULES) - target;
+        assertEquals(Math.min(expected, ShooterConstants.BURST_MAX_BOOST_RPM),
+            model.getBoostRPM(target, target), EPSILON);
+    }
+
+    @Test
+    void boostGrowsWithTheMeasuredDeficit() {
+        double target = 4000.0;
+        double atTarget = model.getBoostRPM(target, target);
+        double behind = model.getBoostRPM(target, target - 150.0);
+        assertTrue(behind > atTarget);
+
+        double targetJoules = model.kineticEnergyJoules(target);
+        double deficit = targetJoules - model.kineticEnergyJoules(target - 150.0);
+        double expected = model.rpmForEnergy(targetJoules + deficit
+            + ShooterConstants.BURST_BOOST_ENERGY_FRACTION * INITIAL_JOULES) - target;
+        assertEquals(Math.min(expected, ShooterConstants.BURST_MAX_BOOST_RPM), behind, EPSILON);
+    }
+
+    @Test
+    void boostStaysWithinItsLimits() {
+        assertEquals(0.0, model.getBoostRPM(0.0, 0.0), EPSILON);
+        assertEquals(ShooterConstants.BURST_MAX_BOOST_RPM, model.getBoostRPM(4000.0, 0.0), EPSILON);
+        // Already above target: no deficit, so nothing beyond the ball's share
+        assertEquals(model.getBoostRPM(4000.0, 4000.0), model.getBoostRPM(4000.0, 4300.0), EPSILON);
+    }
+}
@@ -0,0 +1,184 @@
+package frc.robot.subsystems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.wpilibj.DriverStation;
+import edu.wpi.first.wpilibj.simulation.DriverStationSim;
+import edu.wpi.first.wpilibj2.command.CommandScheduler;
+import frc.robot.constants.IntakeConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+class IntakeSubsystemTest {
+    private FakeIntakeIO io;
+    private IntakeSubsystem intake;
+
+    @BeforeEach
+    void createIntake() {
+        assertTrue(HAL.initialize(500, 0));
+        CommandScheduler.getInstance().unregisterAllSubsystems();
+        io = new FakeIntakeIO();
+        intake = new IntakeSubsystem(io);
+    }
+
+    @AfterEach
+    void disable() {
+        setEnabled(false);
+        CommandScheduler.getInstance().unregisterAllSubsystems();
+    }
+
+    @Test
+    void homingWaitsForTheMotorConfiguration() {
+        setEnabled(true);
+        loop();
+        assertFalse(intake.isHoming());
+        assertEquals(0.0, io.dutyCycle);
+
+        io.configured.complete(true);
+        loop();
+        assertTrue(intake.isHoming());
+        assertTrue(io.dutyCycle < 0.0);
+    }
+
+    @Test
+    void homingHoldsASlowApproachAndCapsThePushAgainstTheStop() {
+        io.configured.complete(true);
+        setEnabled(true);
+        loop();
+        assertTrue(intake.isHoming());
+        // Not moving yet: the correction saturates at the cap
+        assertEquals(-IntakeConstants.HOMING_MAX_VOLTS, io.dutyCycle * FakeIntakeIO.BUS_VOLTS, 1e-9);
+
+        // At the approach speed only the feedforward for that speed is left, well under the cap
+        io.velocityDegPerSec = IntakeConstants.HOMING_VELOCITY_DEG_PER_SEC;
+        loop();
+        double cruiseVolts = io.dutyCycle * FakeIntakeIO.BUS_VOLTS;
+        assertTrue(cruiseVolts < 0.0 && cruiseVolts > -IntakeConstants.HOMING_MAX_VOLTS / 2, "cruise " + cruiseVolts);
+
+        // Too fast, e.g. falling: the correction backs off
+        io.velocityDegPerSec = 3 * IntakeConstants.HOMING_VELOCITY_DEG_PER_SEC;
+        loop();
+        assertTrue(io.dutyCycle * FakeIntakeIO.BUS_VOLTS > cruiseVolts);
+    }
+
+    @Test
+    void failedConfigurationSkipsHomingAndRunsTheWaitingMove() {
+        intake.extend();
+        assertFalse(intake.isHoming());
+
+        io.configured.complete(false);
+        setEnabled(true);
+        loop();
+        assertFalse(intake.isHoming());
+        assertFalse(intake.isHomed());
+        assertTrue(io.softLimitsEnabled);
+        // Not stuck waiting for a homing that can never start
+        assertTrue(intake.isMoving());
+        assertEquals(IntakeConstants.INTAKE_EXTENDED_DEGREES, intake.getTargetPosition());
+
+        intake.retract();
+        assertFalse(intake.isHoming());
+        assertEquals(IntakeConstants.INTAKE_RETRACTED_DEGREES, intake.getTargetPosition());
+    }
+
+    @Test
+    void stopAbortsHomingAndItRunsAgainOnTheNextEnable() {
+        io.configured.complete(true);
+        setEnabled(true);
+        loop();
+        assertTrue(intake.isHoming());
+
+        intake.stop();
+        assertFalse(intake.isHoming());
+        assertFalse(intake.isHomed());
+        assertEquals(0.0, io.dutyCycle);
+        assertTrue(io.softLimitsEnabled);
+
+        // Still enabled: the stop holds
+        loop();
+        assertFalse(intake.isHoming());
+        assertEquals(0.0, io.dutyCycle);
+
+        setEnabled(false);
+        loop();
+        setEnabled(true);
+        loop();
+        assertTrue(intake.isHoming());
+    }
+
+    @Test
+    void aMoveAfterAStopRehomesFirst() {
+        io.configured.complete(true);
+        setEnabled(true);
+        loop();
+        intake.stop();
+
+        intake.extend();
+        assertTrue(intake.isHoming());
+        assertEquals(IntakeConstants.INTAKE_EXTENDED_DEGREES, intake.getTargetPosition());
+    }
+
+    private void loop() {
+        io.timestampSeconds += 0.02;
+        intake.periodic();
+    }
+
+    private static void setEnabled(boolean enabled) {
+        DriverStationSim.setDsAttached(true);
+        DriverStationSim.setEnabled(enabled);
+        DriverStationSim.notifyNewData();
+        DriverStation.refreshData();
+    }
+
+    /** Records what the intake asks of its motor; the pivot only moves as fast as the test says. */
+    private static final class FakeIntakeIO implements IntakeIO {
+        static final double BUS_VOLTS = 12.0;
+
+        final CompletableFuture<Boolean> configured = new CompletableFuture<>();
+        double timestampSeconds = 0.0;
+        double velocityDegPerSec = 0.0;
+        double dutyCycle = 0.0;
+        boolean softLimitsEnabled = true;
+
+        @Override
+        public void updateInputs(IntakeInputs inputs) {
+            inputs.timestampSeconds = timestampSeconds;
+            inputs.velocityDegPerSec = velocityDegPerSec;
+            inputs.busVoltage = BUS_VOLTS;
+        }
+
+        @Override
+        public void setPosition(double degrees, double feedforwardVolts) {
+            dutyCycle = 0.0;
+        }
+
+        @Override
+        public void setDutyCycle(double output) {
+            dutyCycle = output;
+        }
+
+        @Override
+        public void stop() {
+            dutyCycle = 0.0;
+        }
+
+        @Override
+        public void resetPosition(double degrees) {}
+
+        @Override
+        public void setSoftLimitsEnabled(boolean enabled) {
+            softLimitsEnabled = enabled;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> getConfiguredFuture() {
+            return configured;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package frc.robot.subsystems;
+
+import com.ctre.phoenix6.controls.ControlRequest;
+import com.ctre.phoenix6.controls.MotionMagicVelocityVoltage;
+import com.ctre.phoenix6.controls.VelocityVoltage;
+
+import edu.wpi.first.math.MathUtil;
+import edu.wpi.first.math.system.plant.LinearSystemId;
+import edu.wpi.first.wpilibj.RobotController;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.simulation.FlywheelSim;
+import frc.robot.constants.ShooterConstants;
+import frc.robot.util.SimFriction;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The flywheel model of {@link ShooterIOSim} with the TalonFX's Slot0 velocity loop evaluated here,
+ * once per read, instead of by the simulated motor controller. The simulated controller runs on
+ * wall-clock time; this only advances when robot time is stepped, so every test run is identical.
+ *
+ * <p>Models VelocityVoltage and MotionMagicVelocityVoltage (acceleration limit only, no jerk),
+ * which is what every built-in profile uses.
+ */
+public class LockstepShooterIO implements ShooterIO {
+    private final FlywheelSim flywheelSim = new FlywheelSim(
+        LinearSystemId.createFlywheelSystem(
+            ShooterConstants.SIM_MOTOR, ShooterConstants.SIM_FLYWHEEL_MOI_KG_M2, ShooterConstants.GEAR_RATIO),
+        ShooterConstants.SIM_MOTOR);
+
+    private boolean running = false;
+    private double targetRPS = 0.0;
+    private double referenceRPS = 0.0;
+    private double requestAccelerationRPSPerSec = 0.0;
+    private double configAccelerationRPSPerSec =
+        ShooterConstants.DEFAULT_SPINUP_ACCEL_RPM_PER_SEC * ShooterConstants.GEAR_RATIO / 60.0;
+
+    private double lastTimestamp = Double.NaN;
+
+    @Override
+    public void updateInputs(ShooterInputs inputs) {
+        double now = Timer.getFPGATimestamp();
+        double dt = Double.isNaN(lastTimestamp) ? 0.02 : now - lastTimestamp;
+        lastTimestamp = now;
+        double batteryVolts = RobotController.getBatteryVoltage();
+        double previousRPS = getMotorRPS();
+
+        if (dt > 0.0) {
+            advanceReference(dt);
+            double volts = running ? controllerVolts(previousRPS, batteryVolts) : 0.0;
+            double previousRadPerSec = flywheelSim.getAngularVelocityRadPerSec();
+            flywheelSim.setInputVoltage(
+                SimFriction.apply(volts, previousRadPerSec, ShooterConstants.SIM_FRICTION_VOLTS));
+            flywheelSim.update(dt);
+            if (SimFriction.crossedZero(previousRadPerSec, flywheelSim.getAngularVelocityRadPerSec(),
+                    volts, ShooterConstants.SIM_FRICTION_VOLTS)) {
+                flywheelSim.setAngularVelocity(0.0);
+            }
+            inputs.motorAccelerationRPSPerSec = (getMotorRPS() - previousRPS) / dt;
+        }
+
+        inputs.connected          = true;
+        inputs.timestampSeconds   = now;
+        inputs.motorVelocityRPS   = getMotorRPS();
+        inputs.supplyCurrentAmps  = Math.abs(flywheelSim.getCurrentDrawAmps());
+        inputs.supplyVoltageVolts = batteryVolts;
+        inputs.closedLoopErrorRPS = running ? referenceRPS - getMotorRPS() : 0.0;
+        inputs.temperatureCelsius = 25.0;
+    }
+
+    @Override
+    public void setControl(ControlRequest request) {
+        if (request instanceof VelocityVoltage step) {
+            targetRPS = step.Velocity;
+            requestAccelerationRPSPerSec = Double.POSITIVE_INFINITY;
+        } else if (request instanceof MotionMagicVelocityVoltage profiled) {
+            targetRPS = profiled.Velocity;
+            requestAccelerationRPSPerSec = profiled.Acceleration;
+        } else {
+            throw new IllegalArgumentException("Lockstep flywheel does not model " + request.getName());
+        }
+        if (!running) {
+            referenceRPS = getMotorRPS();
+            running = true;
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public void setMotionLimits(double accelerationRPSPerSec, double jerkRPSPerSec2) {
+        configAccelerationRPSPerSec = accelerationRPSPerSec;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> getConfiguredFuture() {
+        return CompletableFuture.completedFuture(true);
+    }
+
+    @Override
+    public double getSimulatedCurrentDrawAmps() {
+        return flywheelSim.getCurrentDrawAmps();
+    }
+
+    /** A ball leaving the shooter: takes its share of speed out of the wheel. */
+    public void ballExit() {
+        flywheelSim.setAngularVelocity(
+            flywheelSim.getAngularVelocityRadPerSec() * (1.0 - ShooterConstants.SIM_BALL_SPEED_LOSS));
+    }
+
+    /** Moves the reference toward the target at the request's acceleration; 0 means the config's. */
+    private void advanceReference(double dt) {
+        double acceleration = requestAccelerationRPSPerSec > 0.0
+            ? requestAccelerationRPSPerSec
+            : configAccelerationRPSPerSec;
+        double maxStep = acceleration * dt;
+        referenceRPS += MathUtil.clamp(targetRPS - referenceRPS, -maxStep, maxStep);
+    }
+
+    private double controllerVolts(double motorRPS, double batteryVolts) {
+        double volts = (referenceRPS != 0.0 ? Math.copySign(ShooterConstants.kS_TALON, referenceRPS) : 0.0)
+            + ShooterConstants.kV_TALON * referenceRPS
+            + ShooterConstants.kP_TALON * (referenceRPS - motorRPS);
+        return MathUtil.clamp(volts, -batteryVolts, batteryVolts);
+    }
+
+    private double getMotorRPS() {
+        return flywheelSim.getAngularVelocityRPM() / 60.0 * ShooterConstants.GEAR_RATIO;
+    }
+}
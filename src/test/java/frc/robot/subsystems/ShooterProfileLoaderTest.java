@@ -0,0 +1,39 @@
+package frc.robot.subsystems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+class ShooterProfileLoaderTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    void writtenOffsetsParseBackUnchanged() throws IOException {
+        Map<String, Map<Double, Double>> offsets = Map.of(
+            "BALANCED", Map.of(1.5, 25.0, 3.25, -50.0),
+            "LOB", Map.of(0.1 + 0.2, 250.0));
+        Path file = dir.resolve("offsets.json");
+        ShooterProfileLoader.writeOffsets(file, offsets);
+        assertEquals(offsets, ShooterProfileLoader.parseOffsets(file));
+        // Nothing left behind from the atomic replace
+        assertFalse(Files.exists(dir.resolve("offsets.json.tmp")));
+    }
+
+    @Test
+    void malformedOffsetsThrow() throws IOException {
+        Path file = dir.resolve("offsets.json");
+        Files.writeString(file, "{\"offsets\": [{\"profile\": \"BALANCED\", \"distance\": 2.0}]}");
+        assertThrows(IOException.class, () -> ShooterProfileLoader.parseOffsets(file));
+        Files.writeString(file, "{\"profiles\": []}");
+        assertThrows(IOException.class, () -> ShooterProfileLoader.parseOffsets(file));
+    }
+}
@@ -0,0 +1,106 @@
+package frc.robot.subsystems;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import frc.robot.constants.ShooterConstants;
+import frc.robot.util.InterpolatingTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+class ShooterTableLearnerTest {
+    private static final double EPSILON = 1e-9;
+    private static final double STEP = ShooterConstants.LEARN_STEP_RPM;
+    private static final double MAX = ShooterConstants.LEARN_MAX_OFFSET_RPM;
+
+    private static ShooterProfile profile(double... rpms) {
+        return new ShooterProfile("TEST", "Test", 45.0,
+            ShooterConstants.LAUNCH_HEIGHT_METERS, ShooterConstants.TARGET_HEIGHT_METERS,
+            new InterpolatingTable(new double[] {1.0, 2.0, 3.0}, rpms),
+            1.0, 3.0, rpms[1],
+            ShooterConstants.DEFAULT_SPINUP_ACCEL_RPM_PER_SEC, ShooterConstants.DEFAULT_SPINUP_JERK_RPM_PER_SEC2,
+            ShooterControlMode.VELOCITY_VOLTAGE);
+    }
+
+    private static double[] rpms(ShooterProfile profile) {
+        return profile.getDistanceToRPMTable().copyValues();
+    }
+
+    @Test
+    void stepsOnlyTheNearestPoint() {
+        ShooterTableLearner learner = new ShooterTableLearner(Map.of());
+        learner.applyTo(Map.of("TEST", profile(3000.0, 3500.0, 4000.0)));
+
+        ShooterProfile low = learner.apply("TEST", 2.2, ShotFeedback.LOW);
+        assertArrayEquals(new double[] {3000.0, 3500.0 + STEP, 4000.0}, rpms(low), EPSILON);
+        ShooterProfile high = learner.apply("TEST", 2.9, ShotFeedback.HIGH);
+        assertArrayEquals(new double[] {3000.0, 3500.0 + STEP, 4000.0 - STEP}, rpms(high), EPSILON);
+        assertEquals(Map.of("TEST", Map.of(2.0, STEP, 3.0, -STEP)), learner.getOffsets());
+    }
+
+    @Test
+    void offsetsStopAtTheBound() {
+        ShooterTableLearner learner = new ShooterTableLearner(Map.of());
+        learner.applyTo(Map.of("TEST", profile(3000.0, 3500.0, 4000.0)));
+
+        int steps = (int) Math.ceil(MAX / STEP);
+        for (int i = 0; i < steps; i++) {
+            learner.apply("TEST", 1.0, ShotFeedback.LOW);
+        }
+        assertNull(learner.apply("TEST", 1.0, ShotFeedback.LOW));
+        assertEquals(MAX, learner.getOffsets().get("TEST").get(1.0), EPSILON);
+
+        for (int i = 0; i < 2 * steps; i++) {
+            learner.apply("TEST", 1.0, ShotFeedback.HIGH);
+        }
+        assertNull(learner.apply("TEST", 1.0, ShotFeedback.HIGH));
+        assertEquals(-MAX, learner.getOffsets().get("TEST").get(1.0), EPSILON);
+    }
+
+    @Test
+    void theBoundHoldsAgainstAReloadedBase() {
+        ShooterTableLearner learner = new ShooterTableLearner(Map.of());
+        learner.applyTo(Map.of("TEST", profile(3000.0, 3500.0, 4000.0)));
+        learner.apply("TEST", 2.0, ShotFeedback.LOW);
+
+        // A hand edit to the base point takes effect, with the learned offset still on top
+        Map<String, ShooterProfile> reloaded = learner.applyTo(Map.of("TEST", profile(3000.0, 3300.0, 4000.0)));
+        assertArrayEquals(new double[] {3000.0, 3300.0 + STEP, 4000.0}, rpms(reloaded.get("TEST")), EPSILON);
+
+        ShooterProfile low = learner.apply("TEST", 2.0, ShotFeedback.LOW);
+        assertArrayEquals(new double[] {3000.0, 3300.0 + 2 * STEP, 4000.0}, rpms(low), EPSILON);
+    }
+
+    @Test
+    void savedOffsetsAreAppliedAndClamped() {
+        ShooterTableLearner learner = new ShooterTableLearner(
+            Map.of("TEST", Map.of(1.0, 10 * MAX, 3.0, -STEP, 9.0, STEP)));
+        Map<String, ShooterProfile> learned = learner.applyTo(Map.of("TEST", profile(3000.0, 3500.0, 4000.0)));
+        assertArrayEquals(new double[] {3000.0 + MAX, 3500.0, 4000.0 - STEP}, rpms(learned.get("TEST")), EPSILON);
+
+        // An offset for a distance the base doesn't have is kept for later
+        assertTrue(learner.getOffsets().get("TEST").containsKey(9.0));
+    }
+
+    @Test
+    void goodVerdictsAndUnknownProfilesChangeNothing() {
+        ShooterTableLearner learner = new ShooterTableLearner(Map.of());
+        learner.applyTo(Map.of("TEST", profile(3000.0, 3500.0, 4000.0)));
+        assertNull(learner.apply("TEST", 2.0, ShotFeedback.GOOD));
+        assertNull(learner.apply("OTHER", 2.0, ShotFeedback.LOW));
+        assertEquals(Map.of(), learner.getOffsets());
+    }
+
+    @Test
+    void steppingBackToZeroDropsTheOffset() {
+        ShooterTableLearner learner = new ShooterTableLearner(Map.of());
+        learner.applyTo(Map.of("TEST", profile(3000.0, 3500.0, 4000.0)));
+        learner.apply("TEST", 2.0, ShotFeedback.LOW);
+        ShooterProfile back = learner.apply("TEST", 2.0, ShotFeedback.HIGH);
+        assertArrayEquals(new double[] {3000.0, 3500.0, 4000.0}, rpms(back), EPSILON);
+        assertEquals(Map.of(), learner.getOffsets());
+    }
+}
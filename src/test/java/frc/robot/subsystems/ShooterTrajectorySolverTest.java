@@ -0,0 +1,118 @@
+package frc.robot.subsystems;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import frc.robot.constants.ShooterConstants;
+import frc.robot.util.InterpolatingTable;
+import org.junit.jupiter.api.Test;
+
+class ShooterTrajectorySolverTest {
+    private static final double EPSILON = 1e-6;
+    private static final double ANGLE = 45.0;
+    private static final double HEIGHT_DELTA =
+        ShooterConstants.TARGET_HEIGHT_METERS - ShooterConstants.LAUNCH_HEIGHT_METERS;
+
+    /** Tuned only over 2.0-3.5 m, but safe from 1.0 to 5.0 m, so the solver fills both ends. */
+    private static final InterpolatingTable PARTIAL_TABLE = new InterpolatingTable(
+        new double[] {2.0, 2.5, 3.0, 3.5}, new double[] {3000.0, 3450.0, 3950.0, 4500.0});
+
+    private static ShooterProfile partialProfile() {
+        return new ShooterProfile("PARTIAL", "Partly tuned", ANGLE,
+            ShooterConstants.LAUNCH_HEIGHT_METERS, ShooterConstants.TARGET_HEIGHT_METERS,
+            PARTIAL_TABLE, 1.0, 5.0, 3800.0,
+            ShooterConstants.DEFAULT_SPINUP_ACCEL_RPM_PER_SEC, ShooterConstants.DEFAULT_SPINUP_JERK_RPM_PER_SEC2,
+            ShooterControlMode.VELOCITY_VOLTAGE);
+    }
+
+    private static double velocity(double distance) {
+        return ShooterTrajectorySolver.requiredExitVelocity(distance, ANGLE, HEIGHT_DELTA);
+    }
+
+    @Test
+    void solvedCurveFillsOnlyBeyondTheTunedPoints() {
+        ShooterProfile profile = partialProfile();
+        InterpolatingTable solved = profile.getSolvedDistanceToRPMTable();
+        assertEquals(1.0, solved.getMinKey(), EPSILON);
+        assertEquals(5.0, solved.getMaxKey(), EPSILON);
+
+        int filledBelow = 0;
+        int filledAbove = 0;
+        for (int i = 0; i < solved.size(); i++) {
+            double distance = solved.getKey(i);
+            double expected;
+            if (distance >= PARTIAL_TABLE.getMinKey() && distance <= PARTIAL_TABLE.getMaxKey()) {
+                expected = PARTIAL_TABLE.get(distance);
+            } else {
+                // The physics curve's shape, scaled to meet the nearest tuned end point
+                double end = distance < PARTIAL_TABLE.getMinKey() ? PARTIAL_TABLE.getMinKey() : PARTIAL_TABLE.getMaxKey();
+                expected = Double.isNaN(velocity(distance))
+                    ? PARTIAL_TABLE.get(end)
+                    : Math.min(PARTIAL_TABLE.get(end) * velocity(distance) / velocity(end),
+                               ShooterConstants.MAX_SOLVED_WHEEL_RPM);
+                if (distance < end) {
+                    filledBelow++;
+                } else {
+                    filledAbove++;
+                }
+            }
+            assertEquals(expected, solved.getValue(i), EPSILON, "at " + distance + " m");
+            assertEquals(expected, profile.getRPMForDistance(distance), EPSILON, "at " + distance + " m");
+        }
+        assertTrue(filledBelow > 0 && filledAbove > 0);
+    }
+
+    @Test
+    void solvedCurveMeetsTheTunedEndsWithoutAStep() {
+        ShooterProfile profile = partialProfile();
+        double step = ShooterConstants.DENSE_TABLE_STEP_METERS;
+        double end = PARTIAL_TABLE.getMaxKey();
+        double beyond = profile.getRPMForDistance(end + step);
+        assertTrue(beyond > PARTIAL_TABLE.get(end));
+        assertEquals(PARTIAL_TABLE.get(end), beyond, 0.05 * PARTIAL_TABLE.get(end));
+    }
+
+    @Test
+    void distancesTheAngleCannotReachHoldTheNearestTunedValue() {
+        // At 45 degrees the ball can't climb the height delta within 1.0 m
+        assertTrue(Double.isNaN(velocity(1.0)));
+        assertEquals(PARTIAL_TABLE.get(PARTIAL_TABLE.getMinKey()), partialProfile().getRPMForDistance(1.0), EPSILON);
+    }
+
+    @Test
+    void builtInProfilesAreTunedAcrossTheirWholeSafeRange() {
+        for (ShooterProfile profile : ShooterConstants.createAllProfiles().values()) {
+            InterpolatingTable tuned = profile.getDistanceToRPMTable();
+            assertTrue(tuned.getMinKey() <= profile.getMinSafeDistance(), profile.getName());
+            assertTrue(tuned.getMaxKey() >= profile.getMaxSafeDistance(), profile.getName());
+            for (double d = profile.getMinSafeDistance(); d <= profile.getMaxSafeDistance(); d += 0.1) {
+                assertEquals(tuned.get(d), profile.getRPMForDistance(d), EPSILON, profile.getName() + " at " + d);
+            }
+        }
+    }
+
+    @Test
+    void slipFitIgnoresANearSingularPoint() {
+        double slip = 0.6;
+        double[] distances = {1.5, 2.0, 2.5, 3.0, 3.5, 4.0, 4.5, 5.0};
+        double[] rpms = new double[distances.length];
+        for (int i = 0; i < distances.length; i++) {
+            rpms[i] = ShooterTrajectorySolver.exitVelocityToWheelRPM(velocity(distances[i]), slip);
+        }
+        assertEquals(slip, ShooterTrajectorySolver.fitSlipFactor(
+            new InterpolatingTable(distances, rpms), ANGLE, HEIGHT_DELTA), EPSILON);
+
+        // 1.5 m barely clears the target height, so the model asks for ~27 m/s there; a tuned value
+        // far off the model at that point must not drag the fit
+        rpms[0] = 2600.0;
+        assertEquals(slip, ShooterTrajectorySolver.fitSlipFactor(
+            new InterpolatingTable(distances, rpms), ANGLE, HEIGHT_DELTA), EPSILON);
+    }
+
+    @Test
+    void slipFitFallsBackWhenNoPointIsReachable() {
+        InterpolatingTable flat = new InterpolatingTable(new double[] {1.0, 2.0}, new double[] {3000.0, 3500.0});
+        assertEquals(ShooterConstants.DEFAULT_SLIP_FACTOR,
+            ShooterTrajectorySolver.fitSlipFactor(flat, 10.0, HEIGHT_DELTA), EPSILON);
+    }
+}
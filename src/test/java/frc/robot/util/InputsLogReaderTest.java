@@ -0,0 +1,75 @@
+package frc.robot.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.util.datalog.DataLogWriter;
+import edu.wpi.first.util.datalog.DoubleArrayLogEntry;
+import edu.wpi.first.util.datalog.IntegerLogEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+class InputsLogReaderTest {
+    @TempDir
+    Path dir;
+
+    /** Loops at 0, 20 and 40 ms; "fast" logs twice in the first loop, "slow" only in the last. */
+    private InputsLogReader writeLog() throws IOException {
+        Path file = dir.resolve("replay.wpilog");
+        DataLogWriter writer = new DataLogWriter(file.toString());
+        IntegerLogEntry loops = new IntegerLogEntry(writer, InputsLogger.LOOP_ENTRY);
+        DoubleArrayLogEntry fast = new DoubleArrayLogEntry(writer, InputsLogger.ENTRY_PREFIX + "Fast");
+        DoubleArrayLogEntry slow = new DoubleArrayLogEntry(writer, InputsLogger.ENTRY_PREFIX + "Slow");
+        loops.append(0, 0);
+        fast.append(new double[] {1.0}, 100);
+        fast.append(new double[] {2.0}, 200);
+        loops.append(0, 20_000);
+        fast.append(new double[] {3.0}, 20_100);
+        loops.append(0, 40_000);
+        fast.append(new double[] {4.0}, 40_100);
+        slow.append(new double[] {40.0}, 40_200);
+        writer.close();
+        return new InputsLogReader(file);
+    }
+
+    @Test
+    void cursorsOnlyReturnWhatWasLoggedInTheCurrentLoop() throws IOException {
+        InputsLogReader log = writeLog();
+        InputsLogReader.Cursor fast = log.cursor(InputsLogger.ENTRY_PREFIX + "Fast");
+        InputsLogReader.Cursor slow = log.cursor(InputsLogger.ENTRY_PREFIX + "Slow");
+        double[] value = new double[1];
+
+        log.setLoop(0, 20_000);
+        assertFalse(slow.next(value));
+        assertTrue(fast.next(value));
+        assertArrayEquals(new double[] {1.0}, value);
+        // The second read of this loop is left unread, and must not leak into the next loop
+
+        log.setLoop(20_000, 40_000);
+        assertFalse(slow.next(value));
+        assertTrue(fast.next(value));
+        assertArrayEquals(new double[] {3.0}, value);
+        assertFalse(fast.next(value));
+
+        log.setLoop(40_000, Long.MAX_VALUE);
+        assertTrue(fast.next(value));
+        assertArrayEquals(new double[] {4.0}, value);
+        assertTrue(slow.next(value));
+        assertArrayEquals(new double[] {40.0}, value);
+    }
+
+    @Test
+    void withoutLoopsEveryReadReturnsTheNextRecord() throws IOException {
+        InputsLogReader.Cursor fast = writeLog().cursor(InputsLogger.ENTRY_PREFIX + "Fast");
+        double[] value = new double[1];
+        for (double expected = 1.0; expected <= 4.0; expected++) {
+            assertTrue(fast.next(value));
+            assertArrayEquals(new double[] {expected}, value);
+        }
+        assertFalse(fast.next(value));
+    }
+}
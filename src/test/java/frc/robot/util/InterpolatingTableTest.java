@@ -0,0 +1,90 @@
+package frc.robot.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.math.interpolation.InterpolatingDoubleTreeMap;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+/** Checks that {@link InterpolatingTable} is a drop-in for the {@link InterpolatingDoubleTreeMap} it replaced. */
+class InterpolatingTableTest {
+    private static final int TABLES = 200;
+    private static final int QUERIES_PER_TABLE = 500;
+    private static final double EPSILON = 1e-9;
+
+    private final Random random = new Random(2026);
+
+    @Test
+    void matchesTheTreeMapOnUnevenTables() {
+        for (int t = 0; t < TABLES; t++) {
+            int size = 1 + random.nextInt(12);
+            double[] keys = new double[size];
+            double key = random.nextDouble() * 10.0 - 5.0;
+            for (int i = 0; i < size; i++) {
+                keys[i] = key;
+                key += 0.01 + random.nextDouble() * 2.0;
+            }
+            assertParity(keys, randomValues(size));
+        }
+    }
+
+    @Test
+    void matchesTheTreeMapOnUniformTables() {
+        for (int t = 0; t < TABLES; t++) {
+            int size = 3 + random.nextInt(20);
+            double start = random.nextDouble() * 4.0;
+            double step = 0.05 + random.nextDouble();
+            double[] keys = new double[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = start + i * step;
+            }
+            InterpolatingTable table = new InterpolatingTable(keys, randomValues(size));
+            assertTrue(table.isUniform());
+            assertParity(keys, table.copyValues());
+        }
+    }
+
+    @Test
+    void unevenKeysAreNotTreatedAsUniform() {
+        assertFalse(new InterpolatingTable(new double[] {1.0, 2.0, 4.0}, new double[] {1.0, 2.0, 3.0}).isUniform());
+    }
+
+    private double[] randomValues(int size) {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = 1000.0 + random.nextDouble() * 5000.0;
+        }
+        return values;
+    }
+
+    /** Random keys in and around the table, every breakpoint, and the non-finite keys. */
+    private void assertParity(double[] keys, double[] values) {
+        InterpolatingTable table = new InterpolatingTable(keys, values);
+        InterpolatingDoubleTreeMap map = new InterpolatingDoubleTreeMap();
+        for (int i = 0; i < keys.length; i++) {
+            map.put(keys[i], values[i]);
+        }
+
+        double low = keys[0] - 1.0;
+        double span = keys[keys.length - 1] + 1.0 - low;
+        for (int q = 0; q < QUERIES_PER_TABLE; q++) {
+            assertSame(map, table, low + random.nextDouble() * span);
+        }
+        for (double key : keys) {
+            assertSame(map, table, key);
+            assertSame(map, table, Math.nextUp(key));
+            assertSame(map, table, Math.nextDown(key));
+        }
+        assertSame(map, table, Double.NEGATIVE_INFINITY);
+        assertSame(map, table, Double.POSITIVE_INFINITY);
+        assertSame(map, table, Double.NaN);
+    }
+
+    private static void assertSame(InterpolatingDoubleTreeMap map, InterpolatingTable table, double key) {
+        double expected = map.get(key);
+        assertEquals(expected, table.get(key), EPSILON * Math.abs(expected), "key " + key + " in " + table);
+    }
+}
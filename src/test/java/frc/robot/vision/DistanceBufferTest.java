@@ -0,0 +1,56 @@
+package frc.robot.vision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import frc.robot.constants.VisionConstants;
+import org.junit.jupiter.api.Test;
+
+class DistanceBufferTest {
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void emptyBufferPredictsNothing() {
+        DistanceBuffer buffer = new DistanceBuffer();
+        assertTrue(buffer.isEmpty());
+        assertTrue(Double.isNaN(buffer.predict(1.0)));
+    }
+
+    @Test
+    void predictsAlongConstantRadialMotion() {
+        DistanceBuffer buffer = new DistanceBuffer();
+        for (int i = 0; i < 10; i++) {
+            double t = 10.0 + i * 0.02;
+            buffer.add(t, 4.0 - 1.5 * (t - 10.0));
+        }
+        double latest = buffer.getLatestTimestamp();
+        assertEquals(4.0 - 1.5 * (latest + 0.1 - 10.0), buffer.predict(latest + 0.1), EPSILON);
+    }
+
+    @Test
+    void capsExtrapolationPastNewestSample() {
+        DistanceBuffer buffer = new DistanceBuffer();
+        buffer.add(1.00, 3.0);
+        buffer.add(1.05, 2.9);
+        double capped = buffer.predict(1.05 + VisionConstants.MAX_EXTRAPOLATION_SECONDS);
+        assertEquals(capped, buffer.predict(1.05 + 10.0), EPSILON);
+    }
+
+    @Test
+    void ignoresRepeatedAndOutOfOrderSamples() {
+        DistanceBuffer buffer = new DistanceBuffer();
+        buffer.add(2.0, 3.0);
+        buffer.add(2.0, 9.0);
+        buffer.add(1.5, 9.0);
+        assertEquals(2.0, buffer.getLatestTimestamp(), EPSILON);
+        assertEquals(3.0, buffer.getLatestDistance(), EPSILON);
+    }
+
+    @Test
+    void freshnessFollowsStaleLimit() {
+        DistanceBuffer buffer = new DistanceBuffer();
+        buffer.add(5.0, 3.0);
+        assertTrue(buffer.hasFreshMeasurement(5.0 + VisionConstants.STALE_MEASUREMENT_SECONDS));
+        assertTrue(!buffer.hasFreshMeasurement(5.0 + VisionConstants.STALE_MEASUREMENT_SECONDS + 0.01));
+    }
+}
@@ -0,0 +1,68 @@
+package frc.robot.vision;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import edu.wpi.first.hal.HAL;
+import edu.wpi.first.wpilibj.Timer;
+import edu.wpi.first.wpilibj.simulation.SimHooks;
+import frc.robot.constants.VisionConstants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SimulatedDistanceSourceTest {
+    private static final double EPSILON = 1e-9;
+    private static final double LOOP_SECONDS = 0.02;
+
+    @BeforeEach
+    void pauseTime() {
+        assertTrue(HAL.initialize(500, 0));
+        SimHooks.pauseTiming();
+    }
+
+    @AfterEach
+    void resumeTime() {
+        SimHooks.resumeTiming();
+    }
+
+    @Test
+    void nothingUntilTheFirstFrameHasArrived() {
+        SimulatedDistanceSource source = new SimulatedDistanceSource(3.0);
+        DistanceSample sample = new DistanceSample();
+        SimHooks.stepTiming(VisionConstants.SIM_CAMERA_LATENCY_SECONDS / 2.0);
+        assertFalse(source.latest(sample));
+        assertTrue(Double.isNaN(sample.captureTimestampSeconds));
+    }
+
+    @Test
+    void everySampleHasTheDistanceOfItsOwnFrame() {
+        SimulatedDistanceSource source = new SimulatedDistanceSource(4.5, -1.0);
+        DistanceSample sample = new DistanceSample();
+        // Loop steps that don't line up with the camera frames, so frames roll over between reads
+        for (int i = 0; i < 100; i++) {
+            SimHooks.stepTiming(LOOP_SECONDS * 0.7);
+            if (source.latest(sample)) {
+                assertEquals(source.getTrueDistanceMeters(sample.captureTimestampSeconds),
+                    sample.distanceMeters, EPSILON);
+                assertTrue(sample.captureTimestampSeconds
+                    <= Timer.getFPGATimestamp() - VisionConstants.SIM_CAMERA_LATENCY_SECONDS + EPSILON);
+            }
+        }
+    }
+
+    @Test
+    void bufferPredictsTheTrueDistanceThroughCameraLatency() {
+        SimulatedDistanceSource source = new SimulatedDistanceSource(4.5, -1.0);
+        DistanceBuffer buffer = new DistanceBuffer();
+        for (int i = 0; i < 25; i++) {
+            SimHooks.stepTiming(LOOP_SECONDS);
+            buffer.update(source);
+        }
+        double now = Timer.getFPGATimestamp();
+        assertTrue(buffer.hasFreshMeasurement(now));
+        // Latency plus up to one frame of age is well inside the extrapolation cap
+        assertEquals(source.getTrueDistanceMeters(now), buffer.predict(now), 1e-6);
+    }
+}